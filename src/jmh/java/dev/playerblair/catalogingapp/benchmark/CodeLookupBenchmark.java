@@ -0,0 +1,49 @@
+package dev.playerblair.catalogingapp.benchmark;
+
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodeLookupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class TypeCode {
+        @Param({"Manga", "One-shot"})
+        public String code;
+    }
+
+    @State(Scope.Benchmark)
+    public static class StatusCode {
+        @Param({"Finished", "Discontinued"})
+        public String code;
+    }
+
+    @State(Scope.Benchmark)
+    public static class GenreCode {
+        @Param({"Action", "Suspense"})
+        public String code;
+    }
+
+    @Benchmark
+    public MangaType typeFromCode(TypeCode type) {
+        return MangaType.fromCode(type.code);
+    }
+
+    @Benchmark
+    public MangaStatus statusFromCode(StatusCode status) {
+        return MangaStatus.fromCode(status.code);
+    }
+
+    @Benchmark
+    public MangaGenre genreFromCode(GenreCode genre) {
+        return MangaGenre.fromCode(genre.code);
+    }
+}
@@ -0,0 +1,60 @@
+package dev.playerblair.catalogingapp.benchmark;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.facet.MangaFacetIndex;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import org.openjdk.jmh.annotations.*;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FacetIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    private MangaFacetIndex facetIndex;
+    private MangaFilter filter;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        MangaGenre[] genres = MangaGenre.values();
+        MangaStatus[] statuses = MangaStatus.values();
+        MangaProgress[] progress = MangaProgress.values();
+
+        facetIndex = new MangaFacetIndex(null, true);
+        facetIndex.rebuild(LongStream.rangeClosed(1, catalogSize).mapToObj(id -> Manga.builder()
+                .malId(id)
+                .type(MangaType.MANGA)
+                .status(statuses[random.nextInt(statuses.length)])
+                .progress(progress[random.nextInt(progress.length)])
+                .genres(List.of(genres[random.nextInt(genres.length)], genres[random.nextInt(genres.length)]))
+                .digitalCollection(random.nextBoolean())
+                .build()));
+
+        filter = new MangaFilter();
+        filter.setGenres(List.of("ACTION"));
+        filter.setStatus("FINISHED");
+        filter.setProgress("READING");
+        filter.setDigitalCollection(true);
+    }
+
+    @Benchmark
+    public RoaringBitmap match() {
+        return facetIndex.match(filter).orElseThrow();
+    }
+}
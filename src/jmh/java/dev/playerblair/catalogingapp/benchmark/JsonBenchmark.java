@@ -0,0 +1,94 @@
+package dev.playerblair.catalogingapp.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.playerblair.catalogingapp.api.decoder.MangaWrapperDecoder;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.SearchResponseWrapper;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final TypeReference<SearchResponseWrapper<MangaWrapper>> SEARCH_RESPONSE = new TypeReference<>() {};
+
+    @Param({"50"})
+    private int mangaCount;
+
+    private ObjectMapper objectMapper;
+    private byte[] searchResponse;
+    private List<Manga> mangaList;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ArrayNode data = objectMapper.createArrayNode();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:jikan/manga/*.json")) {
+            try (InputStream input = resource.getInputStream()) {
+                data.add(objectMapper.readTree(input));
+            }
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("pagination").put("current_page", 1).put("has_next_page", false);
+        response.set("data", data);
+        searchResponse = objectMapper.writeValueAsBytes(response);
+
+        mangaList = new ArrayList<>(mangaCount);
+        for (long id = 1; id <= mangaCount; id++) {
+            mangaList.add(Manga.builder()
+                    .malId(id)
+                    .title("Manga " + id)
+                    .type(MangaType.MANGA)
+                    .chapters(100)
+                    .volumes(10)
+                    .status(MangaStatus.FINISHED)
+                    .genres(List.of(MangaGenre.ACTION, MangaGenre.DRAMA))
+                    .url("https://myanimelist.net/manga/" + id)
+                    .progress(MangaProgress.READING)
+                    .chaptersRead(50)
+                    .volumesRead(5)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public SearchResponseWrapper<MangaWrapper> deserializeSearchResponse() throws IOException {
+        return objectMapper.readValue(searchResponse, SEARCH_RESPONSE);
+    }
+
+    @Benchmark
+    public List<MangaWrapper> decodeSearchResponse() {
+        return MangaWrapperDecoder.decodeSearch(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(searchResponse)))
+                .collectList()
+                .block();
+    }
+
+    @Benchmark
+    public byte[] serializeMangaList() throws IOException {
+        return objectMapper.writeValueAsBytes(mangaList);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.playerblair.catalogingapp.benchmark;
+
+import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.service.MangaMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MangaMapperBenchmark {
+
+    private MangaWrapper mangaWrapper;
+
+    @Setup
+    public void setUp() {
+        mangaWrapper = new MangaWrapper(
+                1L,
+                "Monster",
+                "Manga",
+                162,
+                18,
+                "Finished",
+                List.of(new Author(1867L, "Urasawa, Naoki", "https://myanimelist.net/people/1867/Naoki_Urasawa")),
+                List.of(new GenreWrapper("Drama"), new GenreWrapper("Mystery"), new GenreWrapper("Suspense")),
+                "https://myanimelist.net/manga/1/Monster"
+        );
+    }
+
+    @Benchmark
+    public Manga toManga() {
+        return MangaMapper.toManga(mangaWrapper);
+    }
+}
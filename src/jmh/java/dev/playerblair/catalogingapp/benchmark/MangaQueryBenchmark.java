@@ -0,0 +1,44 @@
+package dev.playerblair.catalogingapp.benchmark;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.repository.MangaQueries;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MangaQueryBenchmark {
+
+    private MangaFilter filter;
+
+    @Setup
+    public void setUp() {
+        filter = new MangaFilter();
+        filter.setQuery("Fullmetal Alchemist");
+        filter.setGenres(List.of("ACTION", "FANTASY"));
+        filter.setStatus("FINISHED");
+        filter.setAuthor("Arakawa");
+        filter.setProgress("READING");
+        filter.setDigitalCollection(true);
+        filter.setAfter("100");
+        filter.setLimit(50);
+    }
+
+    @Benchmark
+    public Query buildQuery() {
+        return MangaQueries.filter(filter);
+    }
+
+    @Benchmark
+    public Document buildQueryObject() {
+        return MangaQueries.filter(filter).getQueryObject();
+    }
+}
@@ -0,0 +1,73 @@
+package dev.playerblair.catalogingapp.api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import io.netty.channel.ChannelOption;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Locale;
+
+@Configuration
+@EnableCaching
+public class JikanConfig {
+
+    public static final String SEARCH_CACHE = "jikanSearch";
+    public static final String MANGA_CACHE = "jikanManga";
+
+    @Bean
+    public RateLimiter jikanRateLimiter(JikanProperties properties) {
+        JikanProperties.RateLimit rateLimit = properties.getRateLimit();
+        return new RateLimiter(
+                new RateLimiter.Bandwidth(rateLimit.getRequestsPerSecond(), Duration.ofSeconds(1)),
+                new RateLimiter.Bandwidth(rateLimit.getRequestsPerMinute(), Duration.ofMinutes(1))
+        );
+    }
+
+    @Bean
+    public WebClient jikanWebClient(WebClient.Builder builder, JikanProperties properties) {
+        JikanProperties.Client client = properties.getClient();
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("jikan")
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout());
+        return builder
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CacheManager jikanCacheManager(JikanProperties properties) {
+        JikanProperties.Cache cache = properties.getCache();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(SEARCH_CACHE, MANGA_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(cache.getTtl())
+                .maximumSize(cache.getMaximumSize())
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+
+    @Bean
+    public KeyGenerator jikanSearchKeyGenerator() {
+        return (target, method, params) -> normalizeQuery((String) params[0]);
+    }
+
+    public static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
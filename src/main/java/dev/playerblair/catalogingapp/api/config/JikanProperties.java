@@ -0,0 +1,55 @@
+package dev.playerblair.catalogingapp.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "jikan")
+public class JikanProperties {
+
+    private String baseUrl = "https://api.jikan.moe/v4";
+    private RateLimit rateLimit = new RateLimit();
+    private Cache cache = new Cache();
+    private Client client = new Client();
+    private Retry retry = new Retry();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Data
+    public static class RateLimit {
+        private int requestsPerSecond = 3;
+        private int requestsPerMinute = 60;
+    }
+
+    @Data
+    public static class Cache {
+        private Duration ttl = Duration.ofMinutes(10);
+        private long maximumSize = 1000;
+    }
+
+    @Data
+    public static class Client {
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration responseTimeout = Duration.ofSeconds(5);
+        private Duration callTimeout = Duration.ofSeconds(20);
+        private int maxConnections = 50;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 10;
+        private int minimumNumberOfCalls = 5;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,237 @@
+package dev.playerblair.catalogingapp.api.decoder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Incremental {@link JsonParser} decoder for Jikan manga payloads. Response chunks are fed to a non-blocking parser as
+ * they arrive and released straight away; only the tokens of the manga currently being read are buffered, and fields
+ * {@link MangaWrapper} does not keep (images, synopsis, titles, scores, ...) are dropped before they are buffered.
+ */
+public final class MangaWrapperDecoder {
+
+    private static final JsonFactory JSON = JsonFactory.builder().build();
+    private static final Set<String> FIELDS = Set.of("mal_id", "title", "type", "chapters", "volumes", "status", "url",
+            "authors", "genres");
+
+    private MangaWrapperDecoder() {
+    }
+
+    public static Flux<MangaWrapper> decodeSearch(Flux<DataBuffer> body) {
+        return decode(body, true);
+    }
+
+    public static Mono<MangaWrapper> decodeManga(Flux<DataBuffer> body) {
+        return decode(body, false).next();
+    }
+
+    private static Flux<MangaWrapper> decode(Flux<DataBuffer> body, boolean search) {
+        return Flux.using(() -> new Tokenizer(search),
+                tokenizer -> body.concatMapIterable(tokenizer::feed)
+                        .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput()))),
+                Tokenizer::close)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Tracks nesting depth across chunks, copying each element of {@code data} (or the {@code data} object itself for
+     * a single manga) into a {@link TokenBuffer} and decoding it once its closing brace arrives.
+     */
+    private static final class Tokenizer {
+
+        private final boolean search;
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private int depth;
+        private String field;
+        private boolean inData;
+        private TokenBuffer element;
+        private int elementDepth;
+        private boolean skipping;
+
+        private Tokenizer(boolean search) throws IOException {
+            this.search = search;
+            this.parser = JSON.createNonBlockingByteArrayParser();
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        private List<MangaWrapper> feed(DataBuffer buffer) {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            try {
+                feeder.feedInput(bytes, 0, bytes.length);
+                return parse();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private List<MangaWrapper> endOfInput() {
+            feeder.endOfInput();
+            try {
+                List<MangaWrapper> manga = parse();
+                if (depth != 0) {
+                    throw new JsonParseException(parser, "Unexpected end of Jikan response");
+                }
+                return manga;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private List<MangaWrapper> parse() throws IOException {
+            List<MangaWrapper> manga = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                if (element != null) {
+                    copy(token, manga);
+                } else if (token == JsonToken.FIELD_NAME && depth == 1) {
+                    field = parser.currentName();
+                } else if (token.isStructStart() && depth == 2 && "data".equals(field)) {
+                    if (search && token == JsonToken.START_ARRAY) {
+                        inData = true;
+                    } else if (!search && token == JsonToken.START_OBJECT) {
+                        start();
+                    }
+                } else if (token == JsonToken.START_OBJECT && depth == 3 && inData) {
+                    start();
+                } else if (token.isStructEnd() && depth == 1) {
+                    inData = false;
+                }
+            }
+            return manga;
+        }
+
+        private void start() throws IOException {
+            element = new TokenBuffer(parser);
+            elementDepth = depth - 1;
+            element.copyCurrentEvent(parser);
+        }
+
+        private void copy(JsonToken token, List<MangaWrapper> manga) throws IOException {
+            if (skipping) {
+                skipping = depth > elementDepth + 1;
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME && depth == elementDepth + 1 && !FIELDS.contains(parser.currentName())) {
+                skipping = true;
+                return;
+            }
+            element.copyCurrentEvent(parser);
+            if (depth == elementDepth) {
+                try (JsonParser buffered = element.asParser()) {
+                    buffered.nextToken();
+                    manga.add(readManga(buffered));
+                }
+                element = null;
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static MangaWrapper readManga(JsonParser parser) throws IOException {
+        MangaWrapper manga = new MangaWrapper();
+        manga.setAuthors(List.of());
+        manga.setGenres(List.of());
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "mal_id" -> manga.setMalId(token == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null);
+                case "title" -> manga.setTitle(text(parser, token));
+                case "type" -> manga.setType(text(parser, token));
+                case "chapters" -> manga.setChapters(intValue(parser, token));
+                case "volumes" -> manga.setVolumes(intValue(parser, token));
+                case "status" -> manga.setStatus(text(parser, token));
+                case "url" -> manga.setUrl(text(parser, token));
+                case "authors" -> manga.setAuthors(readAuthors(parser, token));
+                case "genres" -> manga.setGenres(readGenres(parser, token));
+                default -> parser.skipChildren();
+            }
+        }
+        return manga;
+    }
+
+    private static List<Author> readAuthors(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<Author> authors = new ArrayList<>(2);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Author author = new Author();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "mal_id" -> author.setMalId(value == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null);
+                    case "name" -> author.setName(text(parser, value));
+                    case "url" -> author.setUrl(text(parser, value));
+                    default -> parser.skipChildren();
+                }
+            }
+            authors.add(author);
+        }
+        return authors;
+    }
+
+    private static List<GenreWrapper> readGenres(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return List.of();
+        }
+        List<GenreWrapper> genres = new ArrayList<>(4);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String name = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (field.equals("name")) {
+                    name = text(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            genres.add(new GenreWrapper(name));
+        }
+        return genres;
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NULL ? null : parser.getText();
+    }
+
+    private static int intValue(JsonParser parser, JsonToken token) throws IOException {
+        return token == JsonToken.VALUE_NUMBER_INT ? parser.getIntValue() : 0;
+    }
+}
@@ -0,0 +1,7 @@
+package dev.playerblair.catalogingapp.api.exception;
+
+public class JikanApiException extends RuntimeException {
+    public JikanApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
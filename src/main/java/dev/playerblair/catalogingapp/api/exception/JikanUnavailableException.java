@@ -0,0 +1,7 @@
+package dev.playerblair.catalogingapp.api.exception;
+
+public class JikanUnavailableException extends JikanApiException {
+    public JikanUnavailableException(Throwable cause) {
+        super("Jikan API is currently unavailable.", cause);
+    }
+}
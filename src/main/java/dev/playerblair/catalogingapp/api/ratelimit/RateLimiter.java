@@ -0,0 +1,75 @@
+package dev.playerblair.catalogingapp.api.ratelimit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket rate limiter enforcing several bandwidths at once (e.g. 3 per second and 60 per minute).
+ * Callers sleep outside the lock so waiting never pins a virtual thread; reactive callers take the wait from
+ * {@link #reserve()} and delay instead of blocking.
+ */
+public class RateLimiter {
+
+    private final List<Bandwidth> bandwidths;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public RateLimiter(Bandwidth... bandwidths) {
+        this.bandwidths = List.of(bandwidths);
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve(System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public Duration reserve() {
+        return Duration.ofNanos(reserve(System.nanoTime()));
+    }
+
+    long reserve(long now) {
+        lock.lock();
+        try {
+            long permittedAt = now;
+            for (Bandwidth bandwidth : bandwidths) {
+                permittedAt = Math.max(permittedAt, bandwidth.earliestPermit(now));
+            }
+            for (Bandwidth bandwidth : bandwidths) {
+                bandwidth.consume(permittedAt);
+            }
+            return permittedAt - now;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static class Bandwidth {
+
+        private final long intervalNanos;
+        private final long burstNanos;
+        private long theoreticalArrival = Long.MIN_VALUE;
+
+        public Bandwidth(int capacity, Duration period) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+            }
+            this.intervalNanos = period.toNanos() / capacity;
+            this.burstNanos = intervalNanos * (capacity - 1);
+        }
+
+        private long earliestPermit(long now) {
+            if (theoreticalArrival == Long.MIN_VALUE) {
+                return now;
+            }
+            return Math.max(now, theoreticalArrival - burstNanos);
+        }
+
+        private void consume(long permittedAt) {
+            long arrival = theoreticalArrival == Long.MIN_VALUE ? permittedAt : Math.max(theoreticalArrival, permittedAt);
+            theoreticalArrival = arrival + intervalNanos;
+        }
+    }
+}
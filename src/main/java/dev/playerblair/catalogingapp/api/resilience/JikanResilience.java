@@ -0,0 +1,124 @@
+package dev.playerblair.catalogingapp.api.resilience;
+
+import dev.playerblair.catalogingapp.api.config.JikanProperties;
+import dev.playerblair.catalogingapp.api.exception.JikanApiException;
+import dev.playerblair.catalogingapp.api.exception.JikanUnavailableException;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Wraps Jikan calls with retries on 429/5xx and connection failures, honouring {@code Retry-After} and otherwise
+ * backing off exponentially with jitter, behind a circuit breaker that fails fast while Jikan keeps failing.
+ * Every attempt, retries included, waits for a rate limiter permit first. A 429 is back-pressure rather than an
+ * outage, so it is retried but never counted by the circuit breaker.
+ */
+@Slf4j
+@Component
+public class JikanResilience {
+
+    private final JikanProperties.Client client;
+    private final JikanProperties.Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+
+    public JikanResilience(JikanProperties properties, RateLimiter jikanRateLimiter) {
+        this.rateLimiter = jikanRateLimiter;
+        this.client = properties.getClient();
+        this.retry = properties.getRetry();
+        JikanProperties.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        this.circuitBreaker = CircuitBreaker.of("jikan", CircuitBreakerConfig.custom()
+                .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+                .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(circuitBreaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(circuitBreaker.getWaitDurationInOpenState())
+                .recordException(JikanResilience::isFailure)
+                .ignoreException(JikanResilience::isTooManyRequests)
+                .build());
+    }
+
+    public <T> Mono<T> apply(Mono<T> call) {
+        return Mono.defer(() -> Mono.delay(rateLimiter.reserve()).then(call))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    if (!isRetryable(failure) || signal.totalRetries() + 1 >= retry.getMaxAttempts()) {
+                        return Mono.error(failure);
+                    }
+                    Duration delay = backoff(failure, signal.totalRetries());
+                    log.debug("Retrying Jikan call in {} ms after: {}", delay.toMillis(), failure.getMessage());
+                    return Mono.delay(delay);
+                })))
+                .timeout(client.getCallTimeout())
+                .onErrorMap(failure -> !(failure instanceof JikanApiException), JikanResilience::translate);
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    Duration backoff(Throwable failure, long retries) {
+        if (failure instanceof WebClientResponseException response) {
+            Duration retryAfter = retryAfter(response);
+            if (retryAfter != null) {
+                return min(retryAfter, retry.getMaxBackoff());
+            }
+        }
+        Duration exponential = retry.getInitialBackoff().multipliedBy(1L << Math.min(retries, 16));
+        Duration capped = min(exponential, retry.getMaxBackoff());
+        return capped.plusMillis(ThreadLocalRandom.current().nextLong(capped.toMillis() / 2 + 1));
+    }
+
+    private static Duration retryAfter(WebClientResponseException response) {
+        String value = response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    static boolean isRetryable(Throwable failure) {
+        return isTooManyRequests(failure) || isFailure(failure);
+    }
+
+    private static boolean isTooManyRequests(Throwable failure) {
+        return failure instanceof WebClientResponseException response
+                && response.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static boolean isFailure(Throwable failure) {
+        if (failure instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return failure instanceof WebClientRequestException || failure instanceof TimeoutException;
+    }
+
+    private static Throwable translate(Throwable failure) {
+        if (failure instanceof CallNotPermittedException || failure instanceof TimeoutException || isRetryable(failure)) {
+            return new JikanUnavailableException(failure);
+        }
+        return new JikanApiException("Jikan API request failed: " + failure.getMessage(), failure);
+    }
+}
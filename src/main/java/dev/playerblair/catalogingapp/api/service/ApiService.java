@@ -8,4 +8,6 @@ public interface ApiService {
     List<MangaWrapper> searchManga(String query);
 
     MangaWrapper getManga(Long id);
+
+    MangaWrapper refreshManga(Long id);
 }
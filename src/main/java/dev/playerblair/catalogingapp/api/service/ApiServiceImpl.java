@@ -1,45 +1,69 @@
 package dev.playerblair.catalogingapp.api.service;
 
-import dev.playerblair.catalogingapp.api.wrapper.GetResponseWrapper;
+import dev.playerblair.catalogingapp.api.config.JikanConfig;
+import dev.playerblair.catalogingapp.api.decoder.MangaWrapperDecoder;
+import dev.playerblair.catalogingapp.api.resilience.JikanResilience;
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
-import dev.playerblair.catalogingapp.api.wrapper.SearchResponseWrapper;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
 @Service
+@Profile("!reactive")
 public class ApiServiceImpl implements ApiService {
 
     private final WebClient webClient;
+    private final JikanResilience resilience;
 
-    public ApiServiceImpl(WebClient.Builder builder) {
-        this.webClient = builder.baseUrl("https://api.jikan.moe/v4").build();
+    public ApiServiceImpl(WebClient jikanWebClient, JikanResilience resilience) {
+        this.webClient = jikanWebClient;
+        this.resilience = resilience;
     }
 
     @Override
+    @Cacheable(cacheNames = JikanConfig.SEARCH_CACHE, keyGenerator = "jikanSearchKeyGenerator", unless = "#result == null")
     public List<MangaWrapper> searchManga(String query) {
-        SearchResponseWrapper<MangaWrapper> response = this.webClient.get()
+        List<MangaWrapper> results = resilience.apply(this.webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/manga")
-                        .queryParam("q", query)
+                        .queryParam("q", JikanConfig.normalizeQuery(query))
                         .build())
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<SearchResponseWrapper<MangaWrapper>>() {})
+                .bodyToFlux(DataBuffer.class)
+                .as(MangaWrapperDecoder::decodeSearch)
+                .collectList())
                 .block();
-        return response.getData();
+        return results == null ? List.of() : results;
     }
 
     @Override
+    @Cacheable(cacheNames = JikanConfig.MANGA_CACHE, key = "#id", unless = "#result == null")
     public MangaWrapper getManga(Long id) {
-        GetResponseWrapper<MangaWrapper> response = this.webClient.get()
+        return fetchManga(id);
+    }
+
+    @Override
+    @CachePut(cacheNames = JikanConfig.MANGA_CACHE, key = "#id", unless = "#result == null")
+    public MangaWrapper refreshManga(Long id) {
+        return fetchManga(id);
+    }
+
+    private MangaWrapper fetchManga(Long id) {
+        return resilience.apply(this.webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/manga/" + id)
                         .build())
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<GetResponseWrapper<MangaWrapper>>() {})
+                .bodyToFlux(DataBuffer.class)
+                .as(MangaWrapperDecoder::decodeManga)
+                .onErrorResume(WebClientResponseException.NotFound.class, exception -> Mono.empty()))
                 .block();
-        return response.getData();
     }
 }
@@ -0,0 +1,11 @@
+package dev.playerblair.catalogingapp.api.service;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveApiService {
+    Flux<MangaWrapper> searchManga(String query);
+
+    Mono<MangaWrapper> getManga(Long id);
+}
@@ -0,0 +1,52 @@
+package dev.playerblair.catalogingapp.api.service;
+
+import dev.playerblair.catalogingapp.api.config.JikanConfig;
+import dev.playerblair.catalogingapp.api.decoder.MangaWrapperDecoder;
+import dev.playerblair.catalogingapp.api.resilience.JikanResilience;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveApiServiceImpl implements ReactiveApiService {
+
+    private final WebClient webClient;
+    private final JikanResilience resilience;
+
+    public ReactiveApiServiceImpl(WebClient jikanWebClient, JikanResilience resilience) {
+        this.webClient = jikanWebClient;
+        this.resilience = resilience;
+    }
+
+    @Override
+    public Flux<MangaWrapper> searchManga(String query) {
+        return resilience.apply(this.webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/manga")
+                        .queryParam("q", JikanConfig.normalizeQuery(query))
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(MangaWrapperDecoder::decodeSearch)
+                .collectList())
+                .flatMapIterable(results -> results);
+    }
+
+    @Override
+    public Mono<MangaWrapper> getManga(Long id) {
+        return resilience.apply(this.webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/manga/" + id)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(MangaWrapperDecoder::decodeManga)
+                .onErrorResume(WebClientResponseException.NotFound.class, exception -> Mono.empty()));
+    }
+}
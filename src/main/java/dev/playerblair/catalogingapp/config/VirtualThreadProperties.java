@@ -0,0 +1,14 @@
+package dev.playerblair.catalogingapp.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "catalog.virtual-threads.pinning-monitor")
+public class VirtualThreadProperties {
+
+    private boolean enabled = false;
+    private Duration threshold = Duration.ofMillis(20);
+}
@@ -0,0 +1,252 @@
+package dev.playerblair.catalogingapp.manga.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.service.MangaMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Read-through cache of catalog manga by {@code malId} and of list/filter results, stored as id lists resolved against
+ * the manga entries. Writes update the manga entries and drop every cached result, since any write can change which
+ * manga a filter matches. Loaded data is only stored if no write happened while it was being read; the check and the
+ * store share the write lock so a stale load can never land after a newer write.
+ */
+@Component
+@Profile("!reactive")
+public class MangaCatalogCache {
+
+    private static final FilterKey ALL = FilterKey.of(new MangaFilter());
+
+    private final Cache<Long, Manga> manga;
+    private final Cache<FilterKey, List<Long>> results;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock writes = new ReentrantLock();
+
+    public MangaCatalogCache(@Value("${catalog.cache.ttl:10m}") Duration ttl,
+                             @Value("${catalog.cache.maximum-size:20000}") long maximumSize,
+                             @Value("${catalog.cache.filter-results.maximum-ids:200000}") long maximumResultIds,
+                             MeterRegistry meterRegistry) {
+        this.manga = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maximumResultIds)
+                .<FilterKey, List<Long>>weigher((key, ids) -> ids.size() + 1)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, manga, "catalog.manga");
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "catalog.filter-results");
+    }
+
+    public List<Manga> list(Supplier<List<Manga>> loader) {
+        return find(ALL, loader);
+    }
+
+    public List<Manga> filter(MangaFilter filter, Supplier<List<Manga>> loader) {
+        return find(FilterKey.of(filter), loader);
+    }
+
+    public List<Manga> getAll(List<Long> ids, Function<List<Long>, Iterable<Manga>> loader) {
+        Map<Long, Manga> found = new HashMap<>(manga.getAllPresent(ids));
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            long loadedAt = generation.get();
+            List<Manga> loaded = new ArrayList<>(missing.size());
+            loader.apply(missing).forEach(entry -> {
+                loaded.add(entry);
+                found.put(entry.getMalId(), entry);
+            });
+            storeIfCurrent(loadedAt, loaded, null);
+        }
+        List<Manga> ordered = new ArrayList<>(found.size());
+        for (Long id : ids) {
+            Manga entry = found.get(id);
+            if (entry != null) {
+                ordered.add(entry);
+            }
+        }
+        return ordered;
+    }
+
+    public void put(Manga updated) {
+        writes.lock();
+        try {
+            store(updated);
+            invalidateResults();
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    /**
+     * Applies a partial write (progress or collection fields) to the cached entry instead of replacing it with the
+     * document returned by the write, which may predate a concurrent write to the other fields. Uncached entries are
+     * left to the next read.
+     */
+    public void update(Long malId, UnaryOperator<Manga> update) {
+        writes.lock();
+        try {
+            manga.asMap().computeIfPresent(malId, (id, cached) -> update.apply(cached));
+            invalidateResults();
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    public void putAll(Collection<Manga> updated) {
+        if (updated.isEmpty()) {
+            return;
+        }
+        writes.lock();
+        try {
+            updated.forEach(this::store);
+            invalidateResults();
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    /**
+     * Applies refreshed Jikan metadata (chapters, volumes, status, lastRefreshedAt) to the entries already cached rather
+     * than replacing them, so progress or collection writes made during the refresh are kept. Cached results are only
+     * dropped when a status moved, since no filter or sort depends on the other refreshed fields, but the generation
+     * always moves so a load that read Mongo before the refresh is not stored over it.
+     */
+    public void refreshed(Collection<Manga> refreshed, boolean statusChanged) {
+        if (refreshed.isEmpty()) {
+            return;
+        }
+        writes.lock();
+        try {
+            refreshed.forEach(update -> manga.asMap().computeIfPresent(update.getMalId(),
+                    (id, cached) -> MangaMapper.withMetadata(cached, update)));
+            if (statusChanged) {
+                invalidateResults();
+            } else {
+                generation.incrementAndGet();
+            }
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    public void evict(Long malId) {
+        writes.lock();
+        try {
+            manga.invalidate(malId);
+            invalidateResults();
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    private List<Manga> find(FilterKey key, Supplier<List<Manga>> loader) {
+        List<Long> ids = results.getIfPresent(key);
+        if (ids != null) {
+            List<Manga> cached = resolve(ids);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long loadedAt = generation.get();
+        List<Manga> loaded = loader.get();
+        storeIfCurrent(loadedAt, loaded, key);
+        return loaded;
+    }
+
+    private void storeIfCurrent(long loadedAt, List<Manga> loaded, FilterKey key) {
+        if (loaded.stream().anyMatch(entry -> entry == null || entry.getMalId() == null)) {
+            return;
+        }
+        writes.lock();
+        try {
+            if (generation.get() != loadedAt) {
+                return;
+            }
+            loaded.forEach(this::store);
+            if (key != null) {
+                results.put(key, loaded.stream().map(Manga::getMalId).toList());
+            }
+        } finally {
+            writes.unlock();
+        }
+    }
+
+    private boolean store(Manga entry) {
+        if (entry == null || entry.getMalId() == null) {
+            return false;
+        }
+        manga.put(entry.getMalId(), entry);
+        return true;
+    }
+
+    private List<Manga> resolve(List<Long> ids) {
+        List<Manga> resolved = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Manga entry = manga.getIfPresent(id);
+            if (entry == null) {
+                return null;
+            }
+            resolved.add(entry);
+        }
+        return resolved;
+    }
+
+    private void invalidateResults() {
+        generation.incrementAndGet();
+        results.invalidateAll();
+    }
+
+    private record FilterKey(String query, List<String> genres, String status, String type, String author, String progress,
+                             boolean digitalCollection, boolean physicalCollection, String sort, String direction,
+                             String after, Integer limit) {
+
+        static FilterKey of(MangaFilter filter) {
+            return new FilterKey(
+                    normalize(filter.getQuery()),
+                    filter.getGenres() == null ? List.of() : filter.getGenres().stream().distinct().sorted().toList(),
+                    blankToNull(filter.getStatus()),
+                    blankToNull(filter.getType()),
+                    normalize(filter.getAuthor()),
+                    blankToNull(filter.getProgress()),
+                    filter.isDigitalCollection(),
+                    filter.isPhysicalCollection(),
+                    blankToNull(filter.getSort()),
+                    blankToNull(filter.getDirection()),
+                    blankToNull(filter.getAfter()),
+                    filter.getLimit()
+            );
+        }
+
+        private static String normalize(String search) {
+            String value = blankToNull(search);
+            return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+        }
+
+        private static String blankToNull(String value) {
+            return value == null || value.isBlank() ? null : value;
+        }
+    }
+}
@@ -2,52 +2,114 @@ package dev.playerblair.catalogingapp.manga.controller;
 
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
 import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaPage;
 import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaProjection;
+import dev.playerblair.catalogingapp.manga.dto.MangaStats;
 import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
 import dev.playerblair.catalogingapp.manga.service.MangaService;
+import dev.playerblair.catalogingapp.manga.service.MangaStatsService;
+import dev.playerblair.catalogingapp.manga.service.RefreshJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/manga")
+@Profile("!reactive")
 public class MangaController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String SEARCH_TOKEN_HEADER = "X-Search-Token";
+
     private final MangaService mangaService;
+    private final RefreshJobService refreshJobService;
+    private final MangaStatsService statsService;
+    private final ObjectMapper objectMapper;
 
-    public MangaController(MangaService mangaService) {
+    public MangaController(MangaService mangaService, RefreshJobService refreshJobService,
+                           MangaStatsService statsService, ObjectMapper objectMapper) {
         this.mangaService = mangaService;
+        this.refreshJobService = refreshJobService;
+        this.statsService = statsService;
+        this.objectMapper = objectMapper;
     }
 
     @Operation(
             summary = "List stored manga.",
-            description = "Returns an list of all the manga stored in the user's Manga collection.",
+            description = "Returns an list of all the manga stored in the user's Manga collection. When limit or after "
+                    + "is provided, returns one page ordered by ID, or by the requested sort, and the cursor of the next "
+                    + "page in the X-Next-Cursor header.",
             tags = {"manga", "get"}
     )
     @ApiResponse(
             responseCode = "200",
             content = @Content(
-                    schema = @Schema(implementation = Manga.class, type = "array"),
+                    schema = @Schema(implementation = Manga.class, type = "array",
+                            description = "Manga; when fields is provided, only the requested fields are present."),
                     mediaType = "application/json"
             )
     )
     @GetMapping("/list")
-    public ResponseEntity<List<Manga>> listManga() {
-        List<Manga> manga = mangaService.listManga();
-        return ResponseEntity.status(HttpStatus.OK).body(manga);
+    public ResponseEntity<List<?>> listManga(
+            @Parameter(description = "Maximum number of manga to return.") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor returned in X-Next-Cursor by the previous page.") @RequestParam(required = false) String after,
+            @Parameter(description = "Fields or projection profiles (summary, progress, collection) to return.")
+            @RequestParam(required = false) List<String> fields,
+            @Parameter(description = "Sort order: TITLE, RATING, CHAPTERS_READ, VOLUMES_OWNED or STATUS.")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "Sort direction, ASC (default) or DESC.") @RequestParam(required = false) String direction) {
+        if (limit == null && after == null && fields == null && sort == null) {
+            List<Manga> manga = mangaService.listManga();
+            return ResponseEntity.status(HttpStatus.OK).body(manga);
+        }
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(limit);
+        filter.setAfter(after);
+        filter.setFields(fields);
+        filter.setSort(sort);
+        filter.setDirection(direction);
+        if (limit == null && after == null && fields == null) {
+            return ResponseEntity.status(HttpStatus.OK).body(mangaService.filterManga(filter));
+        }
+        return filterResponse(filter);
+    }
+
+    @Operation(
+            summary = "Streams stored manga.",
+            description = "Streams all the manga stored in the user's Manga collection as newline-delimited JSON.",
+            tags = {"manga", "get"}
+    )
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamManga() {
+        return streamResponse(new MangaFilter());
     }
 
     @Operation(
             summary = "Search external API for manga.",
-            description = "Searches the Jikan API for manga based on the provided query.",
+            description = "Searches the Jikan API for manga based on the provided query. The results are kept under the "
+                    + "X-Search-Token header, which is generated when the request does not send one.",
             tags = {"manga", "search", "get"}
     )
     @ApiResponse(
@@ -58,14 +120,18 @@ public class MangaController {
             )
     )
     @GetMapping("/search")
-    public ResponseEntity<List<MangaWrapper>> searchManga(@RequestParam String query) {
-        List<MangaWrapper> manga = mangaService.searchManga(query);
-        return ResponseEntity.status(HttpStatus.OK).body(manga);
+    public ResponseEntity<List<MangaWrapper>> searchManga(
+            @RequestParam String query,
+            @RequestHeader(name = SEARCH_TOKEN_HEADER, required = false) String searchToken) {
+        String token = searchToken == null ? UUID.randomUUID().toString() : searchToken;
+        List<MangaWrapper> manga = mangaService.searchManga(query, token);
+        return ResponseEntity.status(HttpStatus.OK).header(SEARCH_TOKEN_HEADER, token).body(manga);
     }
 
     @Operation(
             summary = "Adds manga to collection.",
-            description = "Adds manga from the search results to collection using provided ID.",
+            description = "Adds manga from the search results identified by the X-Search-Token header to collection "
+                    + "using provided ID. Manga missing from those results are fetched from Jikan.",
             tags = {"manga", "add", "post"}
     )
     @ApiResponses({
@@ -86,8 +152,10 @@ public class MangaController {
             )
     })
     @PostMapping("/add")
-    public ResponseEntity<Manga> addManga(@RequestParam Long id) {
-        Manga addedManga = mangaService.addManga(id);
+    public ResponseEntity<Manga> addManga(
+            @RequestParam Long id,
+            @RequestHeader(name = SEARCH_TOKEN_HEADER, required = false) String searchToken) {
+        Manga addedManga = mangaService.addManga(id, searchToken);
         return ResponseEntity.status(HttpStatus.CREATED).body(addedManga);
     }
 
@@ -120,13 +188,96 @@ public class MangaController {
 
     @Operation(
             summary = "Updates all manga metadata.",
-            description = "Updates the metadata of all manga stored in collection using Jikan API",
+            description = "Starts a background refresh of the metadata of all manga stored in collection using Jikan API.",
             tags = {"manga", "update", "patch"})
-    @ApiResponse(responseCode = "200")
+    @ApiResponse(
+            responseCode = "202",
+            content = @Content(
+                    schema = @Schema(implementation = RefreshJob.class),
+                    mediaType = "application/json"
+            )
+    )
     @PatchMapping("/update-info")
-    public ResponseEntity<Void> updateInfo() {
-        mangaService.updateAllMangaInformation();
-        return ResponseEntity.ok().build();
+    public ResponseEntity<RefreshJob> updateInfo() {
+        RefreshJob job = refreshJobService.startJob();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(
+            summary = "Starts a metadata refresh job.",
+            description = "Starts a background refresh of all manga metadata, or returns the refresh job already running.",
+            tags = {"manga", "refresh", "post"})
+    @ApiResponse(
+            responseCode = "202",
+            content = @Content(
+                    schema = @Schema(implementation = RefreshJob.class),
+                    mediaType = "application/json"
+            )
+    )
+    @PostMapping("/refresh-jobs")
+    public ResponseEntity<RefreshJob> startRefreshJob() {
+        RefreshJob job = refreshJobService.startJob();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(
+            summary = "Gets a metadata refresh job.",
+            description = "Returns the progress of a refresh job: processed, failed and remaining manga and throughput.",
+            tags = {"manga", "refresh", "get"})
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    content = @Content(
+                            schema = @Schema(implementation = RefreshJob.class),
+                            mediaType = "application/json"
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Refresh job with the provided ID does not exist.",
+                    content = @Content(
+                            schema = @Schema(implementation = String.class),
+                            mediaType = "application/json"
+                    )
+            )
+    })
+    @GetMapping("/refresh-jobs/{id}")
+    public ResponseEntity<RefreshJob> getRefreshJob(@PathVariable String id) {
+        RefreshJob job = refreshJobService.getJob(id);
+        return ResponseEntity.status(HttpStatus.OK).body(job);
+    }
+
+    @Operation(
+            summary = "Gets collection stats.",
+            description = "Returns chapters and volumes read, average rating, volumes owned against volumes available "
+                    + "and the completion ratio per status, read from the materialized stats document.",
+            tags = {"manga", "stats", "get"})
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(
+                    schema = @Schema(implementation = MangaStats.class),
+                    mediaType = "application/json"
+            )
+    )
+    @GetMapping("/stats")
+    public ResponseEntity<MangaStats> getStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(statsService.getStats());
+    }
+
+    @Operation(
+            summary = "Rebuilds collection stats.",
+            description = "Recomputes the materialized stats document with an aggregation over the whole collection.",
+            tags = {"manga", "stats", "post"})
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(
+                    schema = @Schema(implementation = MangaStats.class),
+                    mediaType = "application/json"
+            )
+    )
+    @PostMapping("/stats/rebuild")
+    public ResponseEntity<MangaStats> rebuildStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(statsService.rebuildStats());
     }
 
     @Operation(
@@ -190,13 +341,79 @@ public class MangaController {
     @ApiResponse(
             responseCode = "200",
             content = @Content(
-                    schema = @Schema(implementation = Manga.class, type = "array"),
+                    schema = @Schema(implementation = Manga.class, type = "array",
+                            description = "Manga; when fields is provided, only the requested fields are present."),
                     mediaType = "application/json"
             )
     )
     @PostMapping("/list/filter")
-    public ResponseEntity<List<Manga>> filterManga(@RequestBody MangaFilter filter) {
-        List<Manga> filteredManga = mangaService.filterManga(filter);
-        return ResponseEntity.status(HttpStatus.OK).body(filteredManga);
+    public ResponseEntity<List<?>> filterManga(@RequestBody MangaFilter filter) {
+        if (filter.getLimit() == null && filter.getAfter() == null && filter.getFields() == null) {
+            List<Manga> filteredManga = mangaService.filterManga(filter);
+            return ResponseEntity.status(HttpStatus.OK).body(filteredManga);
+        }
+        return filterResponse(filter);
+    }
+
+    @Operation(
+            summary = "Counts filtered manga per facet.",
+            description = "Returns the number of manga matching the provided criteria per genre, status, type, "
+                    + "progress and collection.",
+            tags = {"manga", "filter", "post"})
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(
+                    schema = @Schema(implementation = MangaFacets.class),
+                    mediaType = "application/json"
+            )
+    )
+    @PostMapping("/list/facets")
+    public ResponseEntity<MangaFacets> facetManga(@RequestBody MangaFilter filter) {
+        return ResponseEntity.status(HttpStatus.OK).body(mangaService.facetManga(filter));
+    }
+
+    @Operation(
+            summary = "Streams filtered manga.",
+            description = "Streams the manga matching the provided criteria as newline-delimited JSON.",
+            tags = {"manga", "filter", "post"})
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+    @PostMapping(value = "/list/filter/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamFilteredManga(@RequestBody MangaFilter filter) {
+        return streamResponse(filter);
+    }
+
+    private ResponseEntity<List<?>> filterResponse(MangaFilter filter) {
+        if (filter.getFields() != null) {
+            Set<String> fields = MangaProjection.resolve(filter.getFields());
+            MangaPage page = mangaService.projectManga(filter);
+            List<ObjectNode> manga = page.getManga().stream()
+                    .map(projected -> objectMapper.<ObjectNode>valueToTree(projected).retain(fields))
+                    .toList();
+            return pageResponse(manga, page.getNextCursor());
+        }
+        MangaPage page = mangaService.pageManga(filter);
+        return pageResponse(page.getManga(), page.getNextCursor());
+    }
+
+    private ResponseEntity<List<?>> pageResponse(List<?> manga, String nextCursor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(manga);
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamResponse(MangaFilter filter) {
+        StreamingResponseBody body = outputStream -> mangaService.streamManga(filter, manga -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(manga));
+                outputStream.write('\n');
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        });
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 }
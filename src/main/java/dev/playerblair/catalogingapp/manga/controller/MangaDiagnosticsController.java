@@ -0,0 +1,47 @@
+package dev.playerblair.catalogingapp.manga.controller;
+
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.service.MangaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/manga/debug")
+@Profile("!reactive")
+@ConditionalOnProperty(name = "catalog.debug.enabled", havingValue = "true")
+public class MangaDiagnosticsController {
+
+    private final MangaService mangaService;
+
+    public MangaDiagnosticsController(MangaService mangaService) {
+        this.mangaService = mangaService;
+    }
+
+    @Operation(
+            summary = "Explains a manga filter.",
+            description = "Runs explain() on the query built for the provided filter and reports whether an index was used.",
+            tags = {"manga", "debug", "post"})
+    @ApiResponse(
+            responseCode = "200",
+            content = @Content(
+                    schema = @Schema(implementation = FilterExplanation.class),
+                    mediaType = "application/json"
+            )
+    )
+    @PostMapping("/explain-filter")
+    public ResponseEntity<FilterExplanation> explainFilter(@RequestBody MangaFilter filter) {
+        FilterExplanation explanation = mangaService.explainFilter(filter);
+        return ResponseEntity.status(HttpStatus.OK).body(explanation);
+    }
+}
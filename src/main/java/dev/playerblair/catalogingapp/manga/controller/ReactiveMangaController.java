@@ -0,0 +1,128 @@
+package dev.playerblair.catalogingapp.manga.controller;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.service.ReactiveMangaService;
+import dev.playerblair.catalogingapp.manga.service.ReactiveRefreshJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/manga")
+@Profile("reactive")
+public class ReactiveMangaController {
+
+    private final ReactiveMangaService mangaService;
+    private final ReactiveRefreshJobService refreshJobService;
+
+    public ReactiveMangaController(ReactiveMangaService mangaService, ReactiveRefreshJobService refreshJobService) {
+        this.mangaService = mangaService;
+        this.refreshJobService = refreshJobService;
+    }
+
+    @Operation(summary = "List stored manga.", tags = {"manga", "get"})
+    @GetMapping("/list")
+    public Flux<Manga> listManga(@RequestParam(required = false) Integer limit, @RequestParam(required = false) String after) {
+        if (limit == null && after == null) {
+            return mangaService.listManga();
+        }
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(limit);
+        filter.setAfter(after);
+        return mangaService.filterManga(filter);
+    }
+
+    @Operation(summary = "Stream stored manga.", tags = {"manga", "get"})
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Manga> streamManga() {
+        return mangaService.listManga();
+    }
+
+    @Operation(summary = "Search external API for manga.", tags = {"manga", "search", "get"})
+    @GetMapping("/search")
+    public ResponseEntity<Flux<MangaWrapper>> searchManga(
+            @RequestParam String query,
+            @RequestHeader(name = MangaController.SEARCH_TOKEN_HEADER, required = false) String searchToken) {
+        String token = searchToken == null ? UUID.randomUUID().toString() : searchToken;
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(MangaController.SEARCH_TOKEN_HEADER, token)
+                .body(mangaService.searchManga(query, token));
+    }
+
+    @Operation(summary = "Adds manga to collection.", tags = {"manga", "add", "post"})
+    @PostMapping("/add")
+    public Mono<ResponseEntity<Manga>> addManga(
+            @RequestParam Long id,
+            @RequestHeader(name = MangaController.SEARCH_TOKEN_HEADER, required = false) String searchToken) {
+        return mangaService.addManga(id, searchToken)
+                .map(manga -> ResponseEntity.status(HttpStatus.CREATED).body(manga));
+    }
+
+    @Operation(summary = "Deletes manga from collection.", tags = {"manga", "delete"})
+    @DeleteMapping("/delete")
+    public Mono<Manga> deleteManga(@RequestParam Long id) {
+        return mangaService.deleteManga(id);
+    }
+
+    @Operation(summary = "Starts a refresh job.", tags = {"manga", "update", "patch"})
+    @PatchMapping("/update-info")
+    public Mono<ResponseEntity<RefreshJob>> updateInfo() {
+        return startRefreshJob();
+    }
+
+    @Operation(summary = "Starts a refresh job.", tags = {"manga", "refresh", "post"})
+    @PostMapping("/refresh-jobs")
+    public Mono<ResponseEntity<RefreshJob>> startRefreshJob() {
+        return refreshJobService.startJob()
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job));
+    }
+
+    @Operation(summary = "Gets refresh job progress.", tags = {"manga", "refresh", "get"})
+    @GetMapping("/refresh-jobs/{id}")
+    public Mono<RefreshJob> getRefreshJob(@PathVariable String id) {
+        return refreshJobService.getJob(id);
+    }
+
+    @Operation(summary = "Updates manga progress.", tags = {"manga", "update", "patch"})
+    @PatchMapping("/update-progress")
+    public Mono<Manga> updateProgress(@RequestBody MangaProgressUpdate progressUpdate) {
+        return mangaService.updateProgress(progressUpdate);
+    }
+
+    @Operation(summary = "Updates manga collection.", tags = {"manga", "update", "patch"})
+    @PatchMapping("/update-collection")
+    public Mono<Manga> updateCollection(@RequestBody MangaCollectionUpdate collectionUpdate) {
+        return mangaService.updateCollection(collectionUpdate);
+    }
+
+    @Operation(summary = "Filters stored manga.", tags = {"manga", "filter", "post"})
+    @PostMapping("/list/filter")
+    public Flux<Manga> filterManga(@RequestBody MangaFilter filter) {
+        return mangaService.filterManga(filter);
+    }
+
+    @Operation(summary = "Counts filtered manga per facet.", tags = {"manga", "filter", "post"})
+    @PostMapping("/list/facets")
+    public Mono<MangaFacets> facetManga(@RequestBody MangaFilter filter) {
+        return mangaService.facetManga(filter);
+    }
+
+    @Operation(summary = "Streams filtered manga.", tags = {"manga", "filter", "post"})
+    @PostMapping(value = "/list/filter/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Manga> streamFilteredManga(@RequestBody MangaFilter filter) {
+        return mangaService.filterManga(filter);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FilterExplanation {
+
+    private boolean indexUsed;
+    private List<String> indexNames;
+    private List<String> stages;
+    private long keysExamined;
+    private long docsExamined;
+    private long returned;
+    private long executionTimeMillis;
+}
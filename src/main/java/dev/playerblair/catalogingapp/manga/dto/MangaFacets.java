@@ -0,0 +1,25 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MangaFacets {
+
+    private long total;
+    private Map<MangaGenre, Long> genres;
+    private Map<MangaStatus, Long> status;
+    private Map<MangaType, Long> type;
+    private Map<MangaProgress, Long> progress;
+    private long digitalCollection;
+    private long physicalCollection;
+}
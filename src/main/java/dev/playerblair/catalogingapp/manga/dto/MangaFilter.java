@@ -15,6 +15,7 @@ public class MangaFilter {
     private String query;
     private List<String> genres;
     private String status;
+    private String type;
     private String author;
     private String progress;
 
@@ -24,4 +25,19 @@ public class MangaFilter {
     @JsonProperty("physical_collection")
     private boolean physicalCollection;
 
+    private String sort;
+    private String direction;
+
+    private String after;
+    private Integer limit;
+    private List<String> fields;
+
+    /**
+     * Copy without the cursor, ordering, page size and fieldset, for counts that describe the whole filter rather than
+     * the current page.
+     */
+    public MangaFilter withoutPaging() {
+        return new MangaFilter(query, genres, status, type, author, progress, digitalCollection, physicalCollection,
+                null, null, null, null, null);
+    }
 }
@@ -0,0 +1,17 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MangaPage {
+
+    private List<Manga> manga;
+    private String nextCursor;
+}
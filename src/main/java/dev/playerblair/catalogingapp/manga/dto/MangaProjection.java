@@ -0,0 +1,49 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+public enum MangaProjection {
+    SUMMARY("malId", "title", "progress", "rating"),
+    PROGRESS("malId", "title", "chapters", "volumes", "progress", "chaptersRead", "volumesRead", "rating"),
+    COLLECTION("malId", "title", "volumes", "digitalCollection", "physicalCollection", "volumesAvailable",
+            "volumesOwned", "volumesAcquired", "volumesEdition");
+
+    private static final Set<String> FIELDS = Arrays.stream(Manga.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .filter(field -> !field.isAnnotationPresent(JsonIgnore.class))
+            .map(Field::getName)
+            .collect(HashSet::new, Set::add, Set::addAll);
+
+    private final List<String> fields;
+
+    MangaProjection(String... fields) {
+        this.fields = List.of(fields);
+    }
+
+    public static Set<String> resolve(Collection<String> requested) {
+        Set<String> resolved = new LinkedHashSet<>();
+        resolved.add("malId");
+        for (String name : requested) {
+            String field = name.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            Optional<MangaProjection> projection = Arrays.stream(values())
+                    .filter(value -> value.name().equalsIgnoreCase(field))
+                    .findFirst();
+            if (projection.isPresent()) {
+                resolved.addAll(projection.get().fields);
+            } else if (FIELDS.contains(field)) {
+                resolved.add(field);
+            } else {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,98 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Server-side sort orders for filtered manga. Each order is its keys followed by {@code _id} as a tiebreaker, and
+ * matches a compound index on {@link Manga} so sorted pages are read in index order rather than sorted in memory.
+ * Pages are continued with an opaque cursor holding the sort key values of the last manga returned.
+ */
+public enum MangaSort {
+    TITLE("sort_title", "title"),
+    RATING("sort_rating", "rating", "title"),
+    CHAPTERS_READ("sort_chapters_read", "chaptersRead"),
+    VOLUMES_OWNED("sort_volumes_owned", "volumesOwned"),
+    STATUS("sort_status", "status", "title");
+
+    private static final JsonWriterSettings CURSOR_JSON = JsonWriterSettings.builder()
+            .outputMode(JsonMode.EXTENDED)
+            .build();
+
+    private final String index;
+    private final List<String> keys;
+
+    MangaSort(String index, String... fields) {
+        this.index = index;
+        List<String> keys = new ArrayList<>(List.of(fields));
+        keys.add("_id");
+        this.keys = List.copyOf(keys);
+    }
+
+    public static Optional<MangaSort> of(MangaFilter filter) {
+        if (filter.getSort() == null || filter.getSort().isBlank()) {
+            return Optional.empty();
+        }
+        return Optional.of(valueOf(filter.getSort().trim().toUpperCase()));
+    }
+
+    public static Sort.Direction direction(MangaFilter filter) {
+        if (filter.getDirection() == null || filter.getDirection().isBlank()) {
+            return Sort.Direction.ASC;
+        }
+        return Sort.Direction.fromString(filter.getDirection().trim());
+    }
+
+    public String getIndex() {
+        return index;
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        return Sort.by(direction, keys.toArray(new String[0]));
+    }
+
+    public String cursor(Manga manga) {
+        Document values = new Document();
+        for (String key : keys) {
+            values.put(key, switch (key) {
+                case "title" -> manga.getTitle();
+                case "rating" -> manga.getRating();
+                case "chaptersRead" -> manga.getChaptersRead();
+                case "volumesOwned" -> manga.getVolumesOwned();
+                case "status" -> manga.getStatus() == null ? null : manga.getStatus().name();
+                default -> manga.getMalId();
+            });
+        }
+        return encode(values);
+    }
+
+    public Document decode(String cursor) {
+        try {
+            Document values = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (!values.keySet().equals(Set.copyOf(keys))) {
+                throw new IllegalArgumentException("Cursor does not match sort " + name() + ".");
+            }
+            return values;
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor for sort " + name() + ".", exception);
+        }
+    }
+
+    private static String encode(Document values) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(values.toJson(CURSOR_JSON).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,25 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MangaStats {
+
+    private long manga;
+    private long chaptersRead;
+    private long volumesRead;
+    private long ratedManga;
+    private double averageRating;
+    private long volumesOwned;
+    private long volumesAvailable;
+    private double ownedRatio;
+    private Map<MangaStatus, Long> statusCount;
+    private Map<MangaStatus, Double> completionRatio;
+}
@@ -0,0 +1,7 @@
+package dev.playerblair.catalogingapp.manga.exception;
+
+public class RefreshJobNotFoundException extends RuntimeException {
+    public RefreshJobNotFoundException(String id) {
+        super("Refresh job with ID " + id + " not found.");
+    }
+}
@@ -0,0 +1,332 @@
+package dev.playerblair.catalogingapp.manga.facet;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory facet index with one {@link RoaringBitmap} of {@code malId}s per genre, status, progress and type value and
+ * per collection flag. Filters on these fields alone are answered with bitmap intersections; filters with a title or
+ * author search, or any filter before the index has been built, fall back to Mongo.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+public class MangaFacetIndex {
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Facets facets = new Facets();
+    private List<Consumer<Facets>> pending = new ArrayList<>();
+    private boolean ready;
+
+    public MangaFacetIndex(MongoTemplate mongoTemplate, @Value("${catalog.facets.enabled:true}") boolean enabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            Thread.ofVirtual().name("manga-facet-index").start(this::rebuild);
+        }
+    }
+
+    public void rebuild() {
+        Query query = new Query();
+        query.fields().include("type", "status", "progress", "genres", "digitalCollection", "physicalCollection");
+        try (Stream<Manga> manga = mongoTemplate.stream(query, Manga.class)) {
+            rebuild(manga);
+        } catch (RuntimeException exception) {
+            log.warn("Unable to build manga facet index: {}", exception.getMessage());
+        }
+    }
+
+    public void rebuild(Stream<Manga> manga) {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Facets rebuilt = new Facets();
+        manga.forEach(rebuilt::add);
+
+        lock.writeLock().lock();
+        try {
+            pending.forEach(update -> update.accept(rebuilt));
+            facets = rebuilt;
+            pending = new ArrayList<>();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Built manga facet index over {} manga", rebuilt.all.getCardinality());
+    }
+
+    public Optional<RoaringBitmap> match(MangaFilter filter) {
+        if (!indexable(filter)) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            return Optional.of(facets.match(filter));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<MangaFacets> facets(MangaFilter filter) {
+        MangaFilter counted = filter.withoutPaging();
+        if (!indexable(counted)) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            return Optional.of(facets.count(facets.match(counted)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void index(Manga manga) {
+        indexAll(List.of(manga));
+    }
+
+    public void indexAll(Collection<Manga> manga) {
+        for (Manga entry : manga) {
+            if (entry != null && entry.getMalId() != null) {
+                apply(facets -> {
+                    facets.remove(entry.getMalId());
+                    facets.add(entry);
+                });
+            }
+        }
+    }
+
+    /**
+     * Moves refreshed manga between status bitmaps only. A refresh works from a snapshot read before the Jikan call,
+     * so re-indexing the whole document would revert progress or collection changes made in the meantime.
+     */
+    public void updateStatus(Collection<Manga> manga) {
+        for (Manga entry : manga) {
+            if (entry != null && entry.getMalId() != null) {
+                apply(facets -> facets.status(entry.getMalId(), entry.getStatus()));
+            }
+        }
+    }
+
+    /**
+     * Moves a manga between progress bitmaps only, for the same reason as {@link #updateStatus}: the document returned
+     * by the update may not reflect a concurrent collection update.
+     */
+    public void updateProgress(Long malId, MangaProgress progress) {
+        apply(facets -> facets.progress(malId, progress));
+    }
+
+    public void updateCollection(Long malId, boolean digitalCollection, boolean physicalCollection) {
+        apply(facets -> facets.collection(malId, digitalCollection, physicalCollection));
+    }
+
+    public void remove(Long malId) {
+        apply(facets -> facets.remove(malId));
+    }
+
+    /**
+     * Applies an update to the live index and, while a rebuild is streaming, queues it to be replayed in order on top
+     * of the rebuilt index.
+     */
+    private void apply(Consumer<Facets> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(facets);
+            if (!ready) {
+                pending.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean indexable(MangaFilter filter) {
+        return !hasText(filter.getQuery()) && !hasText(filter.getAuthor()) && !hasText(filter.getSort());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+
+    private static final class Facets {
+
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<MangaGenre, RoaringBitmap> genres = bitmaps(MangaGenre.class);
+        private final Map<MangaStatus, RoaringBitmap> status = bitmaps(MangaStatus.class);
+        private final Map<MangaProgress, RoaringBitmap> progress = bitmaps(MangaProgress.class);
+        private final Map<MangaType, RoaringBitmap> type = bitmaps(MangaType.class);
+        private final RoaringBitmap digitalCollection = new RoaringBitmap();
+        private final RoaringBitmap physicalCollection = new RoaringBitmap();
+
+        void add(Manga manga) {
+            int id = Math.toIntExact(manga.getMalId());
+            all.add(id);
+            if (manga.getGenres() != null) {
+                manga.getGenres().forEach(genre -> genres.get(genre).add(id));
+            }
+            if (manga.getStatus() != null) {
+                status.get(manga.getStatus()).add(id);
+            }
+            if (manga.getProgress() != null) {
+                progress.get(manga.getProgress()).add(id);
+            }
+            if (manga.getType() != null) {
+                type.get(manga.getType()).add(id);
+            }
+            if (manga.isDigitalCollection()) {
+                digitalCollection.add(id);
+            }
+            if (manga.isPhysicalCollection()) {
+                physicalCollection.add(id);
+            }
+        }
+
+        void status(Long malId, MangaStatus value) {
+            int id = Math.toIntExact(malId);
+            if (!all.contains(id)) {
+                return;
+            }
+            status.values().forEach(bitmap -> bitmap.remove(id));
+            if (value != null) {
+                status.get(value).add(id);
+            }
+        }
+
+        void progress(Long malId, MangaProgress value) {
+            int id = Math.toIntExact(malId);
+            if (!all.contains(id)) {
+                return;
+            }
+            progress.values().forEach(bitmap -> bitmap.remove(id));
+            if (value != null) {
+                progress.get(value).add(id);
+            }
+        }
+
+        void collection(Long malId, boolean digital, boolean physical) {
+            int id = Math.toIntExact(malId);
+            if (!all.contains(id)) {
+                return;
+            }
+            digitalCollection.remove(id);
+            physicalCollection.remove(id);
+            if (digital) {
+                digitalCollection.add(id);
+            }
+            if (physical) {
+                physicalCollection.add(id);
+            }
+        }
+
+        void remove(Long malId) {
+            int id = Math.toIntExact(malId);
+            if (!all.checkedRemove(id)) {
+                return;
+            }
+            Stream.of(genres.values(), status.values(), progress.values(), type.values())
+                    .flatMap(Collection::stream)
+                    .forEach(bitmap -> bitmap.remove(id));
+            digitalCollection.remove(id);
+            physicalCollection.remove(id);
+        }
+
+        RoaringBitmap match(MangaFilter filter) {
+            RoaringBitmap result = all.clone();
+            if (filter.getGenres() != null) {
+                filter.getGenres().forEach(genre -> result.and(genres.get(MangaGenre.valueOf(genre))));
+            }
+            if (hasText(filter.getStatus())) {
+                result.and(status.get(MangaStatus.valueOf(filter.getStatus())));
+            }
+            if (hasText(filter.getProgress())) {
+                result.and(progress.get(MangaProgress.valueOf(filter.getProgress())));
+            }
+            if (hasText(filter.getType())) {
+                result.and(type.get(MangaType.valueOf(filter.getType())));
+            }
+            if (filter.isDigitalCollection()) {
+                result.and(digitalCollection);
+            }
+            if (filter.isPhysicalCollection()) {
+                result.and(physicalCollection);
+            }
+            if (hasText(filter.getAfter())) {
+                result.remove(0L, Math.clamp(Long.parseLong(filter.getAfter()) + 1, 0L, 0x100000000L));
+            }
+            return result;
+        }
+
+        MangaFacets count(RoaringBitmap matched) {
+            return new MangaFacets(
+                    matched.getLongCardinality(),
+                    counts(matched, genres, MangaGenre.class),
+                    counts(matched, status, MangaStatus.class),
+                    counts(matched, type, MangaType.class),
+                    counts(matched, progress, MangaProgress.class),
+                    RoaringBitmap.andCardinality(matched, digitalCollection),
+                    RoaringBitmap.andCardinality(matched, physicalCollection)
+            );
+        }
+
+        private static <E extends Enum<E>> Map<E, Long> counts(RoaringBitmap matched, Map<E, RoaringBitmap> buckets,
+                                                                Class<E> type) {
+            Map<E, Long> counts = new EnumMap<>(type);
+            buckets.forEach((value, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(matched, bitmap);
+                if (count > 0) {
+                    counts.put(value, count);
+                }
+            });
+            return counts;
+        }
+
+        private static <E extends Enum<E>> Map<E, RoaringBitmap> bitmaps(Class<E> type) {
+            Map<E, RoaringBitmap> bitmaps = new EnumMap<>(type);
+            for (E value : type.getEnumConstants()) {
+                bitmaps.put(value, new RoaringBitmap());
+            }
+            return bitmaps;
+        }
+    }
+}
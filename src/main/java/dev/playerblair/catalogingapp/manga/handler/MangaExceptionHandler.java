@@ -1,7 +1,10 @@
 package dev.playerblair.catalogingapp.manga.handler;
 
+import dev.playerblair.catalogingapp.api.exception.JikanApiException;
+import dev.playerblair.catalogingapp.api.exception.JikanUnavailableException;
 import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
 import dev.playerblair.catalogingapp.manga.exception.MangaSearchResultNotFoundException;
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -19,4 +22,24 @@ public class MangaExceptionHandler {
     public ResponseEntity<String> handlerMangaNotFoundException(MangaNotFoundException exception) {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
     }
+
+    @ExceptionHandler(RefreshJobNotFoundException.class)
+    public ResponseEntity<String> handlerRefreshJobNotFoundException(RefreshJobNotFoundException exception) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    }
+
+    @ExceptionHandler(JikanUnavailableException.class)
+    public ResponseEntity<String> handlerJikanUnavailableException(JikanUnavailableException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(exception.getMessage());
+    }
+
+    @ExceptionHandler(JikanApiException.class)
+    public ResponseEntity<String> handlerJikanApiException(JikanApiException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(exception.getMessage());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handlerIllegalArgumentException(IllegalArgumentException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(exception.getMessage());
+    }
 }
@@ -0,0 +1,5 @@
+package dev.playerblair.catalogingapp.manga.model;
+
+public interface CodedEnum {
+    String getCode();
+}
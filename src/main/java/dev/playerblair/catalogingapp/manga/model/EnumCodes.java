@@ -0,0 +1,49 @@
+package dev.playerblair.catalogingapp.manga.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable code-to-constant lookup for a {@link CodedEnum}. Exact codes resolve with a single map lookup and no
+ * allocation; other input falls back to a case-insensitive match on the code or constant name, then to {@code unknown}.
+ */
+public final class EnumCodes<E extends Enum<E> & CodedEnum> {
+
+    private final Map<String, E> byCode;
+    private final Map<String, E> byNormalizedCode;
+    private final E unknown;
+
+    private EnumCodes(Class<E> type, E unknown) {
+        Map<String, E> byCode = new HashMap<>();
+        Map<String, E> byNormalizedCode = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            byCode.put(constant.getCode(), constant);
+            byCode.put(constant.name(), constant);
+            byNormalizedCode.put(normalize(constant.getCode()), constant);
+            byNormalizedCode.put(normalize(constant.name()), constant);
+        }
+        this.byCode = Map.copyOf(byCode);
+        this.byNormalizedCode = Map.copyOf(byNormalizedCode);
+        this.unknown = unknown;
+    }
+
+    public static <E extends Enum<E> & CodedEnum> EnumCodes<E> of(Class<E> type, E unknown) {
+        return new EnumCodes<>(type, unknown);
+    }
+
+    public E fromCode(String code) {
+        if (code == null) {
+            return unknown;
+        }
+        E constant = byCode.get(code);
+        if (constant == null) {
+            constant = byNormalizedCode.getOrDefault(normalize(code), unknown);
+        }
+        return constant;
+    }
+
+    private static String normalize(String code) {
+        return code.trim().replace('_', ' ').toLowerCase(Locale.ROOT);
+    }
+}
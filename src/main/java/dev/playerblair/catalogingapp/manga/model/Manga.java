@@ -1,18 +1,34 @@
 package dev.playerblair.catalogingapp.manga.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.Instant;
 import java.util.List;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
+@Document
+@CompoundIndex(name = "genres_status_progress", def = "{'genres': 1, 'status': 1, 'progress': 1}")
+@CompoundIndex(name = "status_progress", def = "{'status': 1, 'progress': 1}")
+@CompoundIndex(name = "authors_name", def = "{'authors.name': 1}")
+@CompoundIndex(name = "collection_progress", def = "{'digitalCollection': 1, 'physicalCollection': 1, 'progress': 1}")
+@CompoundIndex(name = "status_last_refreshed_at", def = "{'status': 1, 'lastRefreshedAt': 1}")
+@CompoundIndex(name = "sort_title", def = "{'title': 1, '_id': 1}")
+@CompoundIndex(name = "sort_rating", def = "{'rating': 1, 'title': 1, '_id': 1}")
+@CompoundIndex(name = "sort_chapters_read", def = "{'chaptersRead': 1, '_id': 1}")
+@CompoundIndex(name = "sort_volumes_owned", def = "{'volumesOwned': 1, '_id': 1}")
+@CompoundIndex(name = "sort_status", def = "{'status': 1, 'title': 1, '_id': 1}")
 public class Manga {
 
     @Id
@@ -25,7 +41,9 @@ public class Manga {
     private List<Author> authors;
     private List<MangaGenre> genres;
     private String url;
+    private Instant lastRefreshedAt;
 
+    @Indexed(name = "progress")
     private MangaProgress progress;
     private int chaptersRead;
     private int volumesRead;
@@ -38,4 +56,12 @@ public class Manga {
     private List<Integer> volumesAcquired;
     private String volumesEdition;
 
+    @JsonIgnore
+    @Indexed(name = "title_grams")
+    private List<String> titleGrams;
+
+    @JsonIgnore
+    @Indexed(name = "author_grams")
+    private List<String> authorGrams;
+
 }
@@ -1,10 +1,10 @@
 package dev.playerblair.catalogingapp.manga.model;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
-public enum MangaGenre {
+public enum MangaGenre implements CodedEnum {
     ACTION("Action"),
     ADVENTURE("Adventure"),
     AVANT_GARDE("Avant Garde"),
@@ -15,14 +15,17 @@ public enum MangaGenre {
     FANTASY("Fantasy"),
     GIRLS_LOVE("Girls Love"),
     GOURMET("Gourmet"),
-    HORROR("Horro"),
+    HORROR("Horror"),
     MYSTERY("Mystery"),
     ROMANCE("Romance"),
     SCI_FI("Sci-Fi"),
     SLICE_OF_LIFE("Slice of Life"),
     SPORTS("Sports"),
-    SUPERNATURAL("Supernatual"),
-    SUSPENSE("Suspense");
+    SUPERNATURAL("Supernatural"),
+    SUSPENSE("Suspense"),
+    UNKNOWN("Unknown");
+
+    private static final EnumCodes<MangaGenre> CODES = EnumCodes.of(MangaGenre.class, UNKNOWN);
 
     private final String code;
 
@@ -30,12 +33,8 @@ public enum MangaGenre {
         this.code = code;
     }
 
+    @JsonCreator
     public static MangaGenre fromCode(String code) {
-        for (MangaGenre type : values()) {
-            if (type.code.equals(code)) {
-                return type;
-            }
-        }
-        throw new IllegalArgumentException("Unknown code: " + code);
+        return CODES.fromCode(code);
     }
 }
@@ -1,14 +1,18 @@
 package dev.playerblair.catalogingapp.manga.model;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
-public enum MangaStatus {
+public enum MangaStatus implements CodedEnum {
     FINISHED("Finished"),
     PUBLISHING("Publishing"),
     ON_HIATUS("On Hiatus"),
-    DISCONTINUED("Discontinued");
+    DISCONTINUED("Discontinued"),
+    NOT_YET_PUBLISHED("Not yet published"),
+    UNKNOWN("Unknown");
+
+    private static final EnumCodes<MangaStatus> CODES = EnumCodes.of(MangaStatus.class, UNKNOWN);
 
     private final String code;
 
@@ -16,12 +20,8 @@ public enum MangaStatus {
         this.code = code;
     }
 
+    @JsonCreator
     public static MangaStatus fromCode(String code) {
-        for (MangaStatus status : values()) {
-            if (status.code.equals(code)) {
-                return status;
-            }
-        }
-        throw new IllegalArgumentException("Unknown code: " + code);
+        return CODES.fromCode(code);
     }
 }
@@ -1,14 +1,20 @@
 package dev.playerblair.catalogingapp.manga.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.Getter;
 
 @Getter
-public enum MangaType {
+public enum MangaType implements CodedEnum {
     MANGA("Manga"),
     MANHWA("Manhwa"),
     MANHUA("Manhua"),
     DOUJINSHI("Doujinshi"),
-    ONE_SHOT("One-shot");
+    ONE_SHOT("One-shot"),
+    NOVEL("Novel"),
+    LIGHT_NOVEL("Light Novel"),
+    UNKNOWN("Unknown");
+
+    private static final EnumCodes<MangaType> CODES = EnumCodes.of(MangaType.class, UNKNOWN);
 
     private final String code;
 
@@ -16,12 +22,8 @@ public enum MangaType {
         this.code = code;
     }
 
+    @JsonCreator
     public static MangaType fromCode(String code) {
-        for (MangaType type : values()) {
-            if (type.code.equals(code)) {
-                return type;
-            }
-        }
-        throw new IllegalArgumentException("Unknown code: " + code);
+        return CODES.fromCode(code);
     }
 }
@@ -0,0 +1,52 @@
+package dev.playerblair.catalogingapp.manga.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document("refreshJobs")
+public class RefreshJob {
+
+    @Id
+    private String id;
+    private RefreshJobStatus status;
+    private long total;
+    private long processed;
+    private long changed;
+    private long failed;
+    private Long lastMalId;
+    private String error;
+
+    private Instant startedAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+
+    public long getRemaining() {
+        return Math.max(0, total - processed - failed);
+    }
+
+    public long getUnchanged() {
+        return processed - changed;
+    }
+
+    public double getThroughput() {
+        if (startedAt == null || updatedAt == null) {
+            return 0;
+        }
+        long elapsedMillis = Duration.between(startedAt, updatedAt).toMillis();
+        if (elapsedMillis == 0) {
+            return 0;
+        }
+        return (processed + failed) * 1000.0 / elapsedMillis;
+    }
+}
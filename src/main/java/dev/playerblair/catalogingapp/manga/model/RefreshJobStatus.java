@@ -0,0 +1,7 @@
+package dev.playerblair.catalogingapp.manga.model;
+
+public enum RefreshJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,162 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import dev.playerblair.catalogingapp.api.service.ApiService;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.cache.MangaCatalogCache;
+import dev.playerblair.catalogingapp.manga.facet.MangaFacetIndex;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.repository.MangaBulkWriter;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.service.MangaMapper;
+import dev.playerblair.catalogingapp.manga.service.MangaStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+public class MangaRefreshEngine {
+
+    private final ApiService apiService;
+    private final MangaBulkWriter bulkWriter;
+    private final MangaRepository mangaRepository;
+    private final RefreshProperties properties;
+    private final MangaCatalogCache catalogCache;
+    private final MangaFacetIndex facetIndex;
+    private final MangaStatsService statsService;
+
+    public MangaRefreshEngine(ApiService apiService, MangaBulkWriter bulkWriter, MangaRepository mangaRepository,
+                              RefreshProperties properties, MangaCatalogCache catalogCache, MangaFacetIndex facetIndex,
+                              MangaStatsService statsService) {
+        this.apiService = apiService;
+        this.bulkWriter = bulkWriter;
+        this.mangaRepository = mangaRepository;
+        this.properties = properties;
+        this.catalogCache = catalogCache;
+        this.facetIndex = facetIndex;
+        this.statsService = statsService;
+    }
+
+    public RefreshSummary refresh(List<Manga> mangaList) {
+        long start = System.currentTimeMillis();
+        int failed = 0;
+        int changed = 0;
+        Semaphore inFlight = new Semaphore(properties.getMaxConcurrency());
+        Instant refreshedAt = Instant.now();
+        Instant recentlyRefreshed = refreshedAt.minus(properties.getMarkRefreshedAfter());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletionService<Refreshed> completionService = new ExecutorCompletionService<>(executor);
+            mangaList.forEach(manga -> completionService.submit(() -> fetch(manga, inFlight, refreshedAt)));
+
+            List<Refreshed> batch = new ArrayList<>(properties.getBatchSize());
+            List<Manga> unchanged = new ArrayList<>();
+            for (int i = 0; i < mangaList.size(); i++) {
+                try {
+                    Refreshed refreshed = completionService.take().get();
+                    if (refreshed.changed()) {
+                        batch.add(refreshed);
+                        changed++;
+                    } else if (refreshed.previousRefreshedAt() == null
+                            || refreshed.previousRefreshedAt().isBefore(recentlyRefreshed)) {
+                        unchanged.add(refreshed.manga());
+                    }
+                } catch (ExecutionException exception) {
+                    failed++;
+                    log.warn("Failed to refresh manga: {}", exception.getCause().getMessage());
+                }
+                if (batch.size() >= properties.getBatchSize()) {
+                    writeChanged(batch);
+                    batch = new ArrayList<>(properties.getBatchSize());
+                }
+                if (unchanged.size() >= properties.getBatchSize()) {
+                    writeUnchanged(unchanged, refreshedAt);
+                    unchanged = new ArrayList<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeChanged(batch);
+            }
+            if (!unchanged.isEmpty()) {
+                writeUnchanged(unchanged, refreshedAt);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Manga refresh interrupted.");
+        }
+
+        RefreshSummary summary = new RefreshSummary(mangaList.size() - failed, changed, failed, System.currentTimeMillis() - start);
+        log.info("Refreshed {} manga: {} changed, {} unchanged, {} failed",
+                summary.getProcessed(), summary.getChanged(), summary.getUnchanged(), summary.getFailed());
+        return summary;
+    }
+
+    /**
+     * Chapter and volume changes go out as one bulk write since no counter depends on them. Status changes are written
+     * one at a time so the stats delta is taken from the document actually replaced rather than the snapshot the
+     * refresh started from.
+     */
+    private void writeChanged(List<Refreshed> batch) {
+        List<Manga> manga = batch.stream().map(Refreshed::manga).toList();
+        List<Manga> statusChanged = batch.stream().filter(Refreshed::statusChanged).map(Refreshed::manga).toList();
+        List<Manga> metadataChanged = batch.stream()
+                .filter(refreshed -> !refreshed.statusChanged())
+                .map(Refreshed::manga)
+                .toList();
+        if (!metadataChanged.isEmpty()) {
+            bulkWriter.updateMetadata(metadataChanged);
+        }
+        statusChanged.forEach(refreshed -> statsService.record(
+                () -> mangaRepository.updateMetadata(refreshed).orElse(null),
+                stored -> stored == null ? null : MangaMapper.withMetadata(stored, refreshed)));
+
+        catalogCache.refreshed(manga, !statusChanged.isEmpty());
+        if (!statusChanged.isEmpty()) {
+            facetIndex.updateStatus(statusChanged);
+        }
+    }
+
+    /**
+     * Unchanged titles still need their refresh timestamp moved forward, otherwise the scheduler keeps selecting the
+     * same stale titles. Titles touched within {@code markRefreshedAfter} are left alone by {@link #refresh}.
+     */
+    private void writeUnchanged(List<Manga> unchanged, Instant refreshedAt) {
+        bulkWriter.markRefreshed(unchanged.stream().map(Manga::getMalId).toList(), refreshedAt);
+    }
+
+    /**
+     * Fetches the latest metadata for a manga and applies it, keeping the previous status and refresh time for the
+     * write path. A title Jikan no longer has is treated as unchanged, so its refresh timestamp still moves forward and
+     * the scheduler does not pick it first on every run.
+     */
+    private Refreshed fetch(Manga manga, Semaphore inFlight, Instant refreshedAt) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            MangaWrapper updatedManga = apiService.refreshManga(manga.getMalId());
+            MangaStatus previousStatus = manga.getStatus();
+            Instant previousRefreshedAt = manga.getLastRefreshedAt();
+            if (updatedManga == null) {
+                log.warn("Manga {} was not found on Jikan, keeping its stored metadata", manga.getMalId());
+                return new Refreshed(manga, false, previousStatus, previousRefreshedAt);
+            }
+            boolean changed = MangaMapper.applyRefresh(manga, updatedManga, refreshedAt);
+            return new Refreshed(manga, changed, previousStatus, previousRefreshedAt);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private record Refreshed(Manga manga, boolean changed, MangaStatus previousStatus, Instant previousRefreshedAt) {
+
+        boolean statusChanged() {
+            return previousStatus != manga.getStatus();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@Profile("!reactive")
+@EnableScheduling
+public class RefreshConfig {
+
+    @Bean
+    public TaskExecutor refreshJobExecutor(SimpleAsyncTaskExecutorBuilder builder) {
+        return builder.threadNamePrefix("refresh-job-").build();
+    }
+}
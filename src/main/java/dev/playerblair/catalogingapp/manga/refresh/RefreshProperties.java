@@ -0,0 +1,34 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "catalog.refresh")
+public class RefreshProperties {
+
+    private int batchSize = 100;
+    private int maxConcurrency = 8;
+    private Duration markRefreshedAfter = Duration.ofHours(1);
+    private Schedule schedule = new Schedule();
+
+    @Data
+    public static class Schedule {
+
+        private boolean enabled = false;
+        private int batchSize = 50;
+        private Map<MangaStatus, Duration> intervals = new EnumMap<>(Map.of(
+                MangaStatus.PUBLISHING, Duration.ofDays(1),
+                MangaStatus.NOT_YET_PUBLISHED, Duration.ofDays(1),
+                MangaStatus.ON_HIATUS, Duration.ofDays(7),
+                MangaStatus.UNKNOWN, Duration.ofDays(7),
+                MangaStatus.FINISHED, Duration.ofDays(30),
+                MangaStatus.DISCONTINUED, Duration.ofDays(30)
+        ));
+    }
+}
@@ -0,0 +1,27 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshSummary {
+
+    private int processed;
+    private int changed;
+    private int failed;
+    private long elapsedMillis;
+
+    public int getUnchanged() {
+        return processed - changed;
+    }
+
+    public double getThroughput() {
+        if (elapsedMillis == 0) {
+            return 0;
+        }
+        return processed * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically refreshes the manga whose last refresh is older than the interval configured for their status. Statuses
+ * with the shortest interval are served first, so publishing titles take the bulk of the Jikan quota.
+ */
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "catalog.refresh.schedule.enabled", havingValue = "true")
+public class ScheduledMangaRefresher {
+
+    private final MangaRepository mangaRepository;
+    private final MangaRefreshEngine refreshEngine;
+    private final RefreshProperties.Schedule schedule;
+
+    public ScheduledMangaRefresher(MangaRepository mangaRepository, MangaRefreshEngine refreshEngine, RefreshProperties properties) {
+        this.mangaRepository = mangaRepository;
+        this.refreshEngine = refreshEngine;
+        this.schedule = properties.getSchedule();
+    }
+
+    @Scheduled(initialDelayString = "${catalog.refresh.schedule.initial-delay:1m}",
+            fixedDelayString = "${catalog.refresh.schedule.interval:5m}")
+    public void refreshDueManga() {
+        try {
+            List<Manga> due = nextBatch(Instant.now());
+            if (!due.isEmpty()) {
+                refreshEngine.refresh(due);
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Scheduled manga refresh failed: {}", exception.getMessage());
+        }
+    }
+
+    List<Manga> nextBatch(Instant now) {
+        List<Manga> due = new ArrayList<>(schedule.getBatchSize());
+        List<Map.Entry<MangaStatus, Duration>> intervals = schedule.getIntervals().entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .toList();
+        for (Map.Entry<MangaStatus, Duration> interval : intervals) {
+            int remaining = schedule.getBatchSize() - due.size();
+            if (remaining <= 0) {
+                break;
+            }
+            due.addAll(mangaRepository.findDueForRefresh(interval.getKey(), now.minus(interval.getValue()), remaining));
+        }
+        return due;
+    }
+}
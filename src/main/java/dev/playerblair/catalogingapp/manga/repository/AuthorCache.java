@@ -0,0 +1,60 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Recently written or read authors, used to skip upserts for authors already stored and to resolve author references
+ * without a round trip per manga.
+ */
+@Component
+public class AuthorCache {
+
+    private final Cache<Long, Author> authors;
+
+    public AuthorCache(@Value("${catalog.authors.cache.ttl:1h}") Duration ttl,
+                       @Value("${catalog.authors.cache.maximum-size:10000}") long maximumSize) {
+        this.authors = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public List<Author> unknown(Collection<Author> candidates) {
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Author> unknown = new ArrayList<>(candidates.size());
+        Set<Long> seen = new HashSet<>();
+        for (Author author : candidates) {
+            if (author.getMalId() != null && seen.add(author.getMalId()) && authors.getIfPresent(author.getMalId()) == null) {
+                unknown.add(author);
+            }
+        }
+        return unknown;
+    }
+
+    public void putAll(Collection<Author> written) {
+        written.forEach(author -> authors.put(author.getMalId(), author));
+    }
+
+    public Map<Long, Author> getAllPresent(Collection<Long> ids) {
+        return authors.getAllPresent(ids);
+    }
+
+    public Map<Long, Author> getAll(Collection<Long> ids, Function<Set<? extends Long>, Map<Long, Author>> loader) {
+        return authors.getAll(ids, loader);
+    }
+}
@@ -1,10 +1,54 @@
 package dev.playerblair.catalogingapp.manga.repository;
 
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
 import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface CustomMangaRepository {
     List<Manga> findByDynamicCriteria(MangaFilter filter);
+
+    Stream<Manga> streamByDynamicCriteria(MangaFilter filter);
+
+    List<Manga> findProjectedByDynamicCriteria(MangaFilter filter, Set<String> fields);
+
+    FilterExplanation explainByDynamicCriteria(MangaFilter filter);
+
+    MangaFacets facetByDynamicCriteria(MangaFilter filter);
+
+    List<Manga> findDueForRefresh(MangaStatus status, Instant refreshedBefore, int limit);
+
+    /**
+     * Inserts or replaces the manga and returns the manga as it was before, if it existed.
+     */
+    Optional<Manga> replace(Manga manga);
+
+    /**
+     * Removes the manga and returns it, if it existed.
+     */
+    Optional<Manga> remove(Long id);
+
+    /**
+     * Applies refreshed chapters, volumes, status and refresh time and returns the manga as it was before the update.
+     */
+    Optional<Manga> updateMetadata(Manga manga);
+
+    /**
+     * Applies the progress update and returns the manga as it was before the update.
+     */
+    Optional<Manga> updateProgress(MangaProgressUpdate progressUpdate);
+
+    /**
+     * Applies the collection update and returns the manga as it was before the update.
+     */
+    Optional<Manga> updateCollection(MangaCollectionUpdate collectionUpdate);
 }
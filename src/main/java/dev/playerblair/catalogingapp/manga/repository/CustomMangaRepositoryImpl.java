@@ -1,16 +1,28 @@
 package dev.playerblair.catalogingapp.manga.repository;
 
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
 import dev.playerblair.catalogingapp.manga.model.Manga;
-import dev.playerblair.catalogingapp.manga.model.MangaGenre;
-import dev.playerblair.catalogingapp.manga.model.MangaProgress;
 import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class CustomMangaRepositoryImpl implements CustomMangaRepository {
 
@@ -22,42 +34,107 @@ public class CustomMangaRepositoryImpl implements CustomMangaRepository {
 
     @Override
     public List<Manga> findByDynamicCriteria(MangaFilter filter) {
-        Query query = new Query();
-        List<Criteria> criteria = new ArrayList<>();
+        return mongoTemplate.find(MangaQueries.filter(filter), Manga.class);
+    }
 
-        if (filter.getQuery() != null && !filter.getQuery().isEmpty()) {
-            criteria.add(Criteria.where("title").regex(filter.getQuery(), "i"));
-        }
+    @Override
+    public Stream<Manga> streamByDynamicCriteria(MangaFilter filter) {
+        return mongoTemplate.stream(MangaQueries.filter(filter), Manga.class);
+    }
 
-        if (filter.getGenres() != null && !filter.getGenres().isEmpty()) {
-            List<MangaGenre> genres = filter.getGenres().stream().map(MangaGenre::valueOf).toList();
-            criteria.add(Criteria.where("genres").all(genres));
-        }
+    @Override
+    public List<Manga> findProjectedByDynamicCriteria(MangaFilter filter, Set<String> fields) {
+        Query query = MangaQueries.filter(filter);
+        fields.forEach(field -> query.fields().include(field.equals("malId") ? "_id" : field));
+        return mongoTemplate.find(query, Manga.class);
+    }
 
-        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
-            criteria.add(Criteria.where("status").is(MangaStatus.valueOf(filter.getStatus())));
-        }
+    @Override
+    public FilterExplanation explainByDynamicCriteria(MangaFilter filter) {
+        Query query = MangaQueries.filter(filter);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        MongoPersistentEntity<?> entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(Manga.class);
 
-        if (filter.getAuthor() != null && !filter.getAuthor().isEmpty()) {
-            criteria.add(Criteria.where("authors.name").regex(filter.getAuthor(), "i"));
+        FindIterable<Document> find = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Manga.class))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity));
+        if (query.isLimited()) {
+            find.limit(query.getLimit());
         }
+        Document explain = find.explain(ExplainVerbosity.EXECUTION_STATS);
+
+        Document queryPlanner = explain.get("queryPlanner", Document.class);
+        List<String> stages = new ArrayList<>();
+        List<String> indexNames = new ArrayList<>();
+        collectPlan(queryPlanner.get("winningPlan"), stages, indexNames);
+
+        Document executionStats = explain.get("executionStats", new Document());
+        return new FilterExplanation(
+                !indexNames.isEmpty(),
+                indexNames,
+                stages,
+                executionStats.get("totalKeysExamined", Number.class).longValue(),
+                executionStats.get("totalDocsExamined", Number.class).longValue(),
+                executionStats.get("nReturned", Number.class).longValue(),
+                executionStats.get("executionTimeMillis", Number.class).longValue()
+        );
+    }
 
-        if (filter.getProgress() != null && !filter.getProgress().isEmpty()) {
-            criteria.add(Criteria.where("progress").is(MangaProgress.valueOf(filter.getProgress())));
+    private void collectPlan(Object plan, List<String> stages, List<String> indexNames) {
+        if (plan instanceof Document stage) {
+            stage.forEach((key, value) -> {
+                if (key.equals("stage")) {
+                    stages.add(String.valueOf(value));
+                } else if (key.equals("indexName")) {
+                    indexNames.add(String.valueOf(value));
+                } else {
+                    collectPlan(value, stages, indexNames);
+                }
+            });
+        } else if (plan instanceof List<?> plans) {
+            plans.forEach(child -> collectPlan(child, stages, indexNames));
         }
+    }
+
+    @Override
+    public MangaFacets facetByDynamicCriteria(MangaFilter filter) {
+        return MangaQueries.toFacets(mongoTemplate.aggregate(MangaQueries.facets(filter), Manga.class, Document.class)
+                .getUniqueMappedResult());
+    }
 
-        if (filter.isDigitalCollection()) {
-            criteria.add(Criteria.where("digitalCollection").is(true));
-        };
+    @Override
+    public List<Manga> findDueForRefresh(MangaStatus status, Instant refreshedBefore, int limit) {
+        return mongoTemplate.find(MangaQueries.dueForRefresh(status, refreshedBefore, limit), Manga.class);
+    }
 
-        if (filter.isPhysicalCollection()) {
-            criteria.add(Criteria.where("physicalCollection").is(true));
-        };
+    @Override
+    public Optional<Manga> replace(Manga manga) {
+        return Optional.ofNullable(mongoTemplate.findAndReplace(MangaQueries.byId(manga.getMalId()), manga,
+                FindAndReplaceOptions.options().upsert()));
+    }
 
-        if (!criteria.isEmpty()) {
-            query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
-        }
+    @Override
+    public Optional<Manga> remove(Long id) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(MangaQueries.byId(id), Manga.class));
+    }
 
-        return mongoTemplate.find(query, Manga.class);
+    @Override
+    public Optional<Manga> updateMetadata(Manga manga) {
+        return modify(manga.getMalId(), MangaQueries.metadataUpdate(manga));
+    }
+
+    @Override
+    public Optional<Manga> updateProgress(MangaProgressUpdate progressUpdate) {
+        return modify(progressUpdate.getMalId(), MangaQueries.progressUpdate(progressUpdate));
+    }
+
+    @Override
+    public Optional<Manga> updateCollection(MangaCollectionUpdate collectionUpdate) {
+        return modify(collectionUpdate.getMalId(), MangaQueries.collectionUpdate(collectionUpdate));
+    }
+
+    private Optional<Manga> modify(Long id, Update update) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(MangaQueries.byId(id), update,
+                MangaQueries.RETURN_OLD, Manga.class));
     }
 }
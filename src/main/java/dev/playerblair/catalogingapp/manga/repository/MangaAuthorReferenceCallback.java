@@ -0,0 +1,83 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.AfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Stores manga authors as references ({@code _id} and {@code name}, which author filtering relies on) instead of full
+ * copies, and resolves the remaining author fields from the author collection when manga are read.
+ */
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "catalog.authors.storage", havingValue = "reference")
+public class MangaAuthorReferenceCallback implements BeforeSaveCallback<Manga>, AfterConvertCallback<Manga> {
+
+    private final ObjectProvider<MongoTemplate> mongoTemplate;
+    private final AuthorCache authorCache;
+
+    public MangaAuthorReferenceCallback(ObjectProvider<MongoTemplate> mongoTemplate, AuthorCache authorCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.authorCache = authorCache;
+    }
+
+    @Override
+    public Manga onBeforeSave(Manga manga, Document document, String collection) {
+        toReferences(document);
+        return manga;
+    }
+
+    @Override
+    public Manga onAfterConvert(Manga manga, Document document, String collection) {
+        List<Long> ids = unresolvedIds(manga);
+        if (ids.isEmpty()) {
+            return manga;
+        }
+        return resolve(manga, authorCache.getAll(ids, missing -> byId(mongoTemplate.getObject()
+                .find(Query.query(Criteria.where("_id").in(missing)), Author.class))));
+    }
+
+    static void toReferences(Document document) {
+        if (document.get("authors") instanceof List<?> authors) {
+            document.put("authors", authors.stream()
+                    .map(author -> new Document("_id", ((Document) author).get("_id"))
+                            .append("name", ((Document) author).get("name")))
+                    .toList());
+        }
+    }
+
+    static List<Long> unresolvedIds(Manga manga) {
+        if (manga.getAuthors() == null) {
+            return List.of();
+        }
+        return manga.getAuthors().stream()
+                .filter(author -> author.getUrl() == null && author.getMalId() != null)
+                .map(Author::getMalId)
+                .toList();
+    }
+
+    static Manga resolve(Manga manga, Map<Long, Author> authors) {
+        manga.setAuthors(manga.getAuthors().stream()
+                .map(author -> author.getMalId() == null ? author : authors.getOrDefault(author.getMalId(), author))
+                .toList());
+        return manga;
+    }
+
+    static Map<Long, Author> byId(List<Author> authors) {
+        return authors.stream().collect(Collectors.toMap(Author::getMalId, Function.identity()));
+    }
+}
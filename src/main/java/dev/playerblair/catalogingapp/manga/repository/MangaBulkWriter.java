@@ -0,0 +1,101 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+@Component
+@Profile("!reactive")
+public class MangaBulkWriter {
+
+    private final MongoTemplate mongoTemplate;
+    private final AuthorCache authorCache;
+    private final int batchSize;
+
+    public MangaBulkWriter(MongoTemplate mongoTemplate, AuthorCache authorCache,
+                           @Value("${catalog.bulk-write.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.authorCache = authorCache;
+        this.batchSize = batchSize;
+    }
+
+    public int updateMetadata(Collection<Manga> mangaList) {
+        return write(Manga.class, mangaList, (operations, manga) -> operations.updateOne(
+                byId(manga.getMalId()),
+                MangaQueries.metadataUpdate(manga)
+        ));
+    }
+
+    public long markRefreshed(Collection<Long> ids, Instant refreshedAt) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.updateMulti(
+                Query.query(Criteria.where("_id").in(ids)),
+                new Update().set("lastRefreshedAt", refreshedAt),
+                Manga.class
+        ).getModifiedCount();
+    }
+
+    public int updateSearchGrams(Collection<Manga> mangaList) {
+        return write(Manga.class, mangaList, (operations, manga) -> operations.updateOne(
+                byId(manga.getMalId()),
+                new Update()
+                        .set("titleGrams", manga.getTitleGrams())
+                        .set("authorGrams", manga.getAuthorGrams())
+        ));
+    }
+
+    public int upsertAuthors(Collection<Author> authors) {
+        List<Author> unknown = authorCache.unknown(authors);
+        int written = write(Author.class, unknown, (operations, author) -> operations.upsert(
+                byId(author.getMalId()),
+                MangaQueries.authorUpsert(author)
+        ));
+        authorCache.putAll(unknown);
+        return written;
+    }
+
+    private <T> int write(Class<?> entityClass, Collection<T> items, BiConsumer<BulkOperations, T> operation) {
+        if (items == null || items.isEmpty()) {
+            return 0;
+        }
+        int written = 0;
+        List<T> batch = new ArrayList<>(Math.min(batchSize, items.size()));
+        for (T item : items) {
+            batch.add(item);
+            if (batch.size() == batchSize) {
+                written += execute(entityClass, batch, operation);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += execute(entityClass, batch, operation);
+        }
+        return written;
+    }
+
+    private <T> int execute(Class<?> entityClass, List<T> batch, BiConsumer<BulkOperations, T> operation) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, entityClass);
+        batch.forEach(item -> operation.accept(operations, item));
+        operations.execute();
+        return batch.size();
+    }
+
+    private static Query byId(Long id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.search.MangaSearchGramsCallback;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "catalog.mongo.create-indexes", havingValue = "true", matchIfMissing = true)
+public class MangaIndexInitializer {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final MangaBulkWriter bulkWriter;
+
+    public MangaIndexInitializer(MongoTemplate mongoTemplate, MangaBulkWriter bulkWriter) {
+        this.mongoTemplate = mongoTemplate;
+        this.bulkWriter = bulkWriter;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofVirtual().name("manga-index-initializer").start(() -> {
+            createIndexes();
+            backfillSearchGrams();
+        });
+    }
+
+    public void createIndexes() {
+        try {
+            IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+            IndexOperations indexOperations = mongoTemplate.indexOps(Manga.class);
+            resolver.resolveIndexFor(Manga.class).forEach(index -> {
+                String name = indexOperations.ensureIndex(index);
+                log.debug("Ensured manga index {}", name);
+            });
+        } catch (RuntimeException exception) {
+            log.warn("Unable to create manga indexes: {}", exception.getMessage());
+        }
+    }
+
+    public void backfillSearchGrams() {
+        Query query = Query.query(Criteria.where("titleGrams").exists(false));
+        query.fields().include("title", "authors.name");
+
+        List<Manga> batch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+        int updated = 0;
+        try (Stream<Manga> manga = mongoTemplate.stream(query, Manga.class)) {
+            Iterator<Manga> iterator = manga.iterator();
+            while (iterator.hasNext()) {
+                batch.add(MangaSearchGramsCallback.index(iterator.next()));
+                if (batch.size() == BACKFILL_BATCH_SIZE || !iterator.hasNext()) {
+                    updated += bulkWriter.updateSearchGrams(batch);
+                    batch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+                }
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Unable to backfill manga search grams: {}", exception.getMessage());
+        }
+        if (updated > 0) {
+            log.info("Backfilled search grams for {} manga", updated);
+        }
+    }
+}
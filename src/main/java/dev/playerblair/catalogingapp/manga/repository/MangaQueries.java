@@ -0,0 +1,224 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaSort;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import dev.playerblair.catalogingapp.manga.search.SearchGrams;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public final class MangaQueries {
+
+    public static final FindAndModifyOptions RETURN_OLD = FindAndModifyOptions.options().returnNew(false);
+
+    private MangaQueries() {
+    }
+
+    public static Query byId(Long id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    public static Query filter(MangaFilter filter) {
+        Query query = new Query();
+        criteria(filter).ifPresent(query::addCriteria);
+
+        Optional<MangaSort> sort = MangaSort.of(filter);
+        if (sort.isPresent()) {
+            query.with(sort.get().toSort(MangaSort.direction(filter)));
+            if (filter.getLimit() != null) {
+                query.limit(filter.getLimit());
+            }
+        } else if (filter.getLimit() != null) {
+            query.with(Sort.by("_id")).limit(filter.getLimit());
+        } else if (filter.getAfter() != null) {
+            query.with(Sort.by("_id"));
+        }
+
+        return query;
+    }
+
+    public static Optional<Criteria> criteria(MangaFilter filter) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (filter.getQuery() != null && !filter.getQuery().isEmpty()) {
+            criteria.addAll(searchCriteria("titleGrams", "title", filter.getQuery()));
+        }
+
+        if (filter.getGenres() != null && !filter.getGenres().isEmpty()) {
+            List<MangaGenre> genres = filter.getGenres().stream().map(MangaGenre::valueOf).toList();
+            criteria.add(Criteria.where("genres").all(genres));
+        }
+
+        if (filter.getStatus() != null && !filter.getStatus().isEmpty()) {
+            criteria.add(Criteria.where("status").is(MangaStatus.valueOf(filter.getStatus())));
+        }
+
+        if (filter.getType() != null && !filter.getType().isEmpty()) {
+            criteria.add(Criteria.where("type").is(MangaType.valueOf(filter.getType())));
+        }
+
+        if (filter.getAuthor() != null && !filter.getAuthor().isEmpty()) {
+            criteria.addAll(searchCriteria("authorGrams", "authors.name", filter.getAuthor()));
+        }
+
+        if (filter.getProgress() != null && !filter.getProgress().isEmpty()) {
+            criteria.add(Criteria.where("progress").is(MangaProgress.valueOf(filter.getProgress())));
+        }
+
+        if (filter.isDigitalCollection()) {
+            criteria.add(Criteria.where("digitalCollection").is(true));
+        };
+
+        if (filter.isPhysicalCollection()) {
+            criteria.add(Criteria.where("physicalCollection").is(true));
+        };
+
+        if (filter.getAfter() != null && !filter.getAfter().isEmpty()) {
+            Optional<MangaSort> sort = MangaSort.of(filter);
+            if (sort.isPresent()) {
+                criteria.add(afterCursor(sort.get(), MangaSort.direction(filter), filter.getAfter()));
+            } else {
+                criteria.add(Criteria.where("_id").gt(Long.valueOf(filter.getAfter())));
+            }
+        }
+
+        if (criteria.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+    }
+
+    /**
+     * Keyset condition for the page after the cursor: the first sort key is past the cursor value, or it is equal and
+     * the next key is past it, and so on down to {@code _id}.
+     */
+    private static Criteria afterCursor(MangaSort sort, Sort.Direction direction, String cursor) {
+        Document values = sort.decode(cursor);
+        List<String> keys = sort.getKeys();
+        List<Criteria> branches = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            List<Criteria> branch = new ArrayList<>(i + 1);
+            for (String key : keys.subList(0, i)) {
+                branch.add(Criteria.where(key).is(values.get(key)));
+            }
+            Criteria past = Criteria.where(keys.get(i));
+            branch.add(direction.isAscending() ? past.gt(values.get(keys.get(i))) : past.lt(values.get(keys.get(i))));
+            branches.add(branch.size() == 1 ? branch.getFirst() : new Criteria().andOperator(branch));
+        }
+        return new Criteria().orOperator(branches);
+    }
+
+    public static Aggregation facets(MangaFilter filter) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        criteria(filter.withoutPaging()).ifPresent(criteria -> operations.add(Aggregation.match(criteria)));
+        operations.add(Aggregation.facet(Aggregation.count().as("count")).as("total")
+                .and(Aggregation.unwind("genres"), Aggregation.sortByCount("genres")).as("genres")
+                .and(Aggregation.sortByCount("status")).as("status")
+                .and(Aggregation.sortByCount("type")).as("type")
+                .and(Aggregation.sortByCount("progress")).as("progress")
+                .and(Aggregation.match(Criteria.where("digitalCollection").is(true)),
+                        Aggregation.count().as("count")).as("digitalCollection")
+                .and(Aggregation.match(Criteria.where("physicalCollection").is(true)),
+                        Aggregation.count().as("count")).as("physicalCollection"));
+        return Aggregation.newAggregation(operations);
+    }
+
+    public static MangaFacets toFacets(Document result) {
+        Document facets = result == null ? new Document() : result;
+        return new MangaFacets(
+                count(facets, "total"),
+                counts(facets, "genres", MangaGenre.class),
+                counts(facets, "status", MangaStatus.class),
+                counts(facets, "type", MangaType.class),
+                counts(facets, "progress", MangaProgress.class),
+                count(facets, "digitalCollection"),
+                count(facets, "physicalCollection")
+        );
+    }
+
+    private static long count(Document facets, String facet) {
+        List<Document> buckets = facets.getList(facet, Document.class, List.of());
+        return buckets.isEmpty() ? 0 : buckets.getFirst().get("count", Number.class).longValue();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> counts(Document facets, String facet, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (Document bucket : facets.getList(facet, Document.class, List.of())) {
+            if (bucket.get("_id") instanceof String value) {
+                counts.put(Enum.valueOf(type, value), bucket.get("count", Number.class).longValue());
+            }
+        }
+        return counts;
+    }
+
+    public static Query dueForRefresh(MangaStatus status, Instant refreshedBefore, int limit) {
+        return Query.query(Criteria.where("status").is(status).orOperator(
+                        Criteria.where("lastRefreshedAt").lt(refreshedBefore),
+                        Criteria.where("lastRefreshedAt").is(null)))
+                .with(Sort.by("lastRefreshedAt"))
+                .limit(limit);
+    }
+
+    private static List<Criteria> searchCriteria(String gramsField, String field, String search) {
+        List<Criteria> criteria = new ArrayList<>();
+        List<String> grams = SearchGrams.of(search);
+        if (!grams.isEmpty()) {
+            criteria.add(Criteria.where(gramsField).all(grams));
+        }
+        criteria.add(Criteria.where(field).regex(SearchGrams.escapeRegex(search.trim()), "i"));
+        return criteria;
+    }
+
+    public static Update authorUpsert(Author author) {
+        return new Update()
+                .setOnInsert("name", author.getName())
+                .setOnInsert("url", author.getUrl());
+    }
+
+    public static Update metadataUpdate(Manga manga) {
+        return new Update()
+                .set("chapters", manga.getChapters())
+                .set("volumes", manga.getVolumes())
+                .set("status", manga.getStatus())
+                .set("lastRefreshedAt", manga.getLastRefreshedAt());
+    }
+
+    public static Update progressUpdate(MangaProgressUpdate progressUpdate) {
+        return new Update()
+                .set("progress", MangaProgress.valueOf(progressUpdate.getProgress()))
+                .set("chaptersRead", progressUpdate.getChaptersRead())
+                .set("volumesRead", progressUpdate.getVolumesRead())
+                .set("rating", progressUpdate.getRating());
+    }
+
+    public static Update collectionUpdate(MangaCollectionUpdate collectionUpdate) {
+        return new Update()
+                .set("digitalCollection", collectionUpdate.isDigitalCollection())
+                .set("physicalCollection", collectionUpdate.isPhysicalCollection())
+                .set("volumesAvailable", collectionUpdate.getVolumesAvailable())
+                .set("volumesOwned", collectionUpdate.getVolumesOwned())
+                .set("volumesAcquired", collectionUpdate.getVolumesAcquired())
+                .set("volumesEdition", collectionUpdate.getVolumesEdition());
+    }
+}
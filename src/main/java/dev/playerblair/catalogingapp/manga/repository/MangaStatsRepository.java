@@ -0,0 +1,51 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.stats.MangaStatsCounters;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Profile("!reactive")
+public class MangaStatsRepository {
+
+    private static final Query COUNTERS = Query.query(Criteria.where("_id").is(MangaStatsCounters.ID));
+
+    private final MongoTemplate mongoTemplate;
+
+    public MangaStatsRepository(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Optional<Document> find() {
+        return Optional.ofNullable(mongoTemplate.findOne(COUNTERS, Document.class, MangaStatsCounters.COLLECTION));
+    }
+
+    public void increment(Map<String, Long> delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        Update update = MangaStatsCounters.increments(delta);
+        mongoTemplate.upsert(COUNTERS, update, MangaStatsCounters.COLLECTION);
+    }
+
+    public Document aggregate() {
+        return MangaStatsCounters.fromAggregation(mongoTemplate.aggregate(MangaStatsCounters.aggregation(),
+                Manga.class, Document.class).getUniqueMappedResult());
+    }
+
+    public Document replace(Document counters) {
+        mongoTemplate.findAndReplace(COUNTERS, counters, FindAndReplaceOptions.options().upsert(),
+                Document.class, MangaStatsCounters.COLLECTION);
+        return counters;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveAfterConvertCallback;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeSaveCallback;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "catalog.authors.storage", havingValue = "reference")
+public class ReactiveMangaAuthorReferenceCallback implements ReactiveBeforeSaveCallback<Manga>, ReactiveAfterConvertCallback<Manga> {
+
+    private final ObjectProvider<ReactiveMongoTemplate> mongoTemplate;
+    private final AuthorCache authorCache;
+
+    public ReactiveMangaAuthorReferenceCallback(ObjectProvider<ReactiveMongoTemplate> mongoTemplate, AuthorCache authorCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.authorCache = authorCache;
+    }
+
+    @Override
+    public Publisher<Manga> onBeforeSave(Manga manga, Document document, String collection) {
+        return Mono.fromSupplier(() -> {
+            MangaAuthorReferenceCallback.toReferences(document);
+            return manga;
+        });
+    }
+
+    @Override
+    public Publisher<Manga> onAfterConvert(Manga manga, Document document, String collection) {
+        List<Long> ids = MangaAuthorReferenceCallback.unresolvedIds(manga);
+        if (ids.isEmpty()) {
+            return Mono.just(manga);
+        }
+        Map<Long, Author> authors = new HashMap<>(authorCache.getAllPresent(ids));
+        List<Long> missing = ids.stream().filter(id -> !authors.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return Mono.just(MangaAuthorReferenceCallback.resolve(manga, authors));
+        }
+        return mongoTemplate.getObject().find(Query.query(Criteria.where("_id").in(missing)), Author.class)
+                .collectList()
+                .map(loaded -> {
+                    authorCache.putAll(loaded);
+                    authors.putAll(MangaAuthorReferenceCallback.byId(loaded));
+                    return MangaAuthorReferenceCallback.resolve(manga, authors);
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.ReactiveIndexOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates the manga indexes through the reactive client. Search grams are not backfilled here; documents written in
+ * this profile get them from {@link dev.playerblair.catalogingapp.manga.search.ReactiveMangaSearchGramsCallback}.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@ConditionalOnProperty(name = "catalog.mongo.create-indexes", havingValue = "true", matchIfMissing = true)
+public class ReactiveMangaIndexInitializer {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveMangaIndexInitializer(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        createIndexes().subscribe();
+    }
+
+    public Mono<Void> createIndexes() {
+        IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+        ReactiveIndexOperations indexOperations = mongoTemplate.indexOps(Manga.class);
+        return Flux.fromIterable(resolver.resolveIndexFor(Manga.class))
+                .concatMap(indexOperations::ensureIndex)
+                .doOnNext(name -> log.debug("Ensured manga index {}", name))
+                .then()
+                .onErrorResume(exception -> {
+                    log.warn("Unable to create manga indexes: {}", exception.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
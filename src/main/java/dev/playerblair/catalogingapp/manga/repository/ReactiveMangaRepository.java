@@ -0,0 +1,122 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.ReactiveBulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@Profile("reactive")
+public class ReactiveMangaRepository {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final AuthorCache authorCache;
+
+    public ReactiveMangaRepository(ReactiveMongoTemplate mongoTemplate, AuthorCache authorCache) {
+        this.mongoTemplate = mongoTemplate;
+        this.authorCache = authorCache;
+    }
+
+    public Flux<Manga> findAll() {
+        return mongoTemplate.findAll(Manga.class);
+    }
+
+    public Flux<Manga> findByDynamicCriteria(MangaFilter filter) {
+        return mongoTemplate.find(MangaQueries.filter(filter), Manga.class);
+    }
+
+    public Mono<Long> count() {
+        return mongoTemplate.count(new Query(), Manga.class);
+    }
+
+    public Flux<Manga> findByMalIdGreaterThanOrderByMalIdAsc(long malId, int limit) {
+        Query query = Query.query(Criteria.where("_id").gt(malId))
+                .with(Sort.by(Sort.Direction.ASC, "_id"))
+                .limit(limit);
+        return mongoTemplate.find(query, Manga.class);
+    }
+
+    public Mono<MangaFacets> facetByDynamicCriteria(MangaFilter filter) {
+        return mongoTemplate.aggregate(MangaQueries.facets(filter), Manga.class, Document.class)
+                .next()
+                .map(MangaQueries::toFacets)
+                .defaultIfEmpty(MangaQueries.toFacets(null));
+    }
+
+    public Mono<Manga> replace(Manga manga) {
+        return mongoTemplate.findAndReplace(MangaQueries.byId(manga.getMalId()), manga,
+                FindAndReplaceOptions.options().upsert());
+    }
+
+    public Mono<Manga> deleteById(Long id) {
+        return mongoTemplate.findAndRemove(MangaQueries.byId(id), Manga.class);
+    }
+
+    public Mono<Manga> updateMetadata(Manga manga) {
+        return modify(manga.getMalId(), MangaQueries.metadataUpdate(manga));
+    }
+
+    public Mono<Manga> updateProgress(MangaProgressUpdate progressUpdate) {
+        return modify(progressUpdate.getMalId(), MangaQueries.progressUpdate(progressUpdate));
+    }
+
+    public Mono<Manga> updateCollection(MangaCollectionUpdate collectionUpdate) {
+        return modify(collectionUpdate.getMalId(), MangaQueries.collectionUpdate(collectionUpdate));
+    }
+
+    public Mono<Void> upsertAuthors(Collection<Author> authors) {
+        List<Author> unknown = authorCache.unknown(authors);
+        if (unknown.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Author.class);
+        unknown.forEach(author -> operations.upsert(MangaQueries.byId(author.getMalId()), MangaQueries.authorUpsert(author)));
+        return operations.execute()
+                .doOnSuccess(result -> authorCache.putAll(unknown))
+                .then();
+    }
+
+    public Mono<Void> updateMetadata(Collection<Manga> mangaList) {
+        if (mangaList.isEmpty()) {
+            return Mono.empty();
+        }
+        ReactiveBulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Manga.class);
+        mangaList.forEach(manga -> operations.updateOne(MangaQueries.byId(manga.getMalId()), MangaQueries.metadataUpdate(manga)));
+        return operations.execute().then();
+    }
+
+    public Mono<Long> markRefreshed(Collection<Long> ids, Instant refreshedAt) {
+        if (ids.isEmpty()) {
+            return Mono.just(0L);
+        }
+        return mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("_id").in(ids)),
+                        new Update().set("lastRefreshedAt", refreshedAt),
+                        Manga.class)
+                .map(UpdateResult::getModifiedCount);
+    }
+
+    private Mono<Manga> modify(Long id, Update update) {
+        return mongoTemplate.findAndModify(MangaQueries.byId(id), update, MangaQueries.RETURN_OLD, Manga.class);
+    }
+}
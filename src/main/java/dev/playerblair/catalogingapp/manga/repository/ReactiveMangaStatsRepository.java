@@ -0,0 +1,32 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.stats.MangaStatsCounters;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@Repository
+@Profile("reactive")
+public class ReactiveMangaStatsRepository {
+
+    private static final Query COUNTERS = Query.query(Criteria.where("_id").is(MangaStatsCounters.ID));
+
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveMangaStatsRepository(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    public Mono<Void> increment(Map<String, Long> delta) {
+        if (delta.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.upsert(COUNTERS, MangaStatsCounters.increments(delta), MangaStatsCounters.COLLECTION)
+                .then();
+    }
+}
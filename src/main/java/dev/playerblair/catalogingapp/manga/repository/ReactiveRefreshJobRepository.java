@@ -0,0 +1,11 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveRefreshJobRepository extends ReactiveMongoRepository<RefreshJob, String> {
+
+    Flux<RefreshJob> findByStatus(RefreshJobStatus status);
+}
@@ -0,0 +1,12 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface RefreshJobRepository extends MongoRepository<RefreshJob, String> {
+
+    List<RefreshJob> findByStatus(RefreshJobStatus status);
+}
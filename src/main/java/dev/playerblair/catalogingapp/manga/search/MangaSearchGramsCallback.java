@@ -0,0 +1,28 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Profile("!reactive")
+public class MangaSearchGramsCallback implements BeforeConvertCallback<Manga> {
+
+    @Override
+    public Manga onBeforeConvert(Manga manga, String collection) {
+        return index(manga);
+    }
+
+    public static Manga index(Manga manga) {
+        manga.setTitleGrams(SearchGrams.of(manga.getTitle()));
+        List<String> authorNames = manga.getAuthors() == null ? List.of() : manga.getAuthors().stream()
+                .map(Author::getName)
+                .toList();
+        manga.setAuthorGrams(SearchGrams.of(authorNames));
+        return manga;
+    }
+}
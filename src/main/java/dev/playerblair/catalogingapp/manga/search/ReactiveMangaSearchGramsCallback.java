@@ -0,0 +1,18 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.reactivestreams.Publisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.mapping.event.ReactiveBeforeConvertCallback;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class ReactiveMangaSearchGramsCallback implements ReactiveBeforeConvertCallback<Manga> {
+
+    @Override
+    public Publisher<Manga> onBeforeConvert(Manga manga, String collection) {
+        return Mono.fromSupplier(() -> MangaSearchGramsCallback.index(manga));
+    }
+}
@@ -0,0 +1,42 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class SearchGrams {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern REGEX_METACHARACTERS = Pattern.compile("[\\\\^$.|?*+()\\[\\]{}]");
+
+    private SearchGrams() {
+    }
+
+    public static List<String> of(String text) {
+        return of(text == null ? List.of() : List.of(text));
+    }
+
+    public static List<String> of(Collection<String> texts) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            String normalized = normalize(text);
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    public static String normalize(String text) {
+        return WHITESPACE.matcher(text.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+    }
+
+    public static String escapeRegex(String text) {
+        return REGEX_METACHARACTERS.matcher(text).replaceAll(match -> Matcher.quoteReplacement("\\" + match.group()));
+    }
+}
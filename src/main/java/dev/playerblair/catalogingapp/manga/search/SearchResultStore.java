@@ -0,0 +1,41 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class SearchResultStore {
+
+    private final Cache<Key, MangaWrapper> results;
+
+    public SearchResultStore(@Value("${catalog.search-results.ttl:30m}") Duration ttl,
+                             @Value("${catalog.search-results.maximum-size:10000}") long maximumSize) {
+        this.results = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void store(String token, List<MangaWrapper> manga) {
+        for (MangaWrapper mangaWrapper : manga) {
+            results.put(new Key(token, mangaWrapper.getMalId()), mangaWrapper);
+        }
+    }
+
+    public Optional<MangaWrapper> find(String token, Long malId) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(results.getIfPresent(new Key(token, malId)));
+    }
+
+    private record Key(String token, Long malId) {
+    }
+}
@@ -0,0 +1,83 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+
+import java.time.Instant;
+import java.util.List;
+
+public final class MangaMapper {
+
+    private MangaMapper() {
+    }
+
+    public static Manga toManga(MangaWrapper mangaWrapper) {
+        List<MangaGenre> genres = mangaWrapper.getGenres().stream()
+                .map(genre -> MangaGenre.fromCode(genre.getName()))
+                .filter(genre -> genre != MangaGenre.UNKNOWN)
+                .distinct()
+                .toList();
+        return Manga.builder()
+                .malId(mangaWrapper.getMalId())
+                .title(mangaWrapper.getTitle())
+                .type(MangaType.fromCode(mangaWrapper.getType()))
+                .chapters(mangaWrapper.getChapters())
+                .volumes(mangaWrapper.getVolumes())
+                .status(MangaStatus.fromCode(mangaWrapper.getStatus()))
+                .authors(mangaWrapper.getAuthors())
+                .genres(genres)
+                .url(mangaWrapper.getUrl())
+                .build();
+    }
+
+    public static Manga withMetadata(Manga manga, Manga refreshed) {
+        return manga.toBuilder()
+                .chapters(refreshed.getChapters())
+                .volumes(refreshed.getVolumes())
+                .status(refreshed.getStatus())
+                .lastRefreshedAt(refreshed.getLastRefreshedAt())
+                .build();
+    }
+
+    /**
+     * Applies freshly fetched metadata to a stored manga, returning whether chapters, volumes or status differ from the
+     * stored values so unchanged titles only have their refresh timestamp touched.
+     */
+    public static boolean applyRefresh(Manga manga, MangaWrapper updatedManga, Instant refreshedAt) {
+        MangaStatus status = MangaStatus.fromCode(updatedManga.getStatus());
+        boolean changed = manga.getChapters() != updatedManga.getChapters()
+                || manga.getVolumes() != updatedManga.getVolumes()
+                || manga.getStatus() != status;
+        manga.setChapters(updatedManga.getChapters());
+        manga.setVolumes(updatedManga.getVolumes());
+        manga.setStatus(status);
+        manga.setLastRefreshedAt(refreshedAt);
+        return changed;
+    }
+
+    public static Manga withProgress(Manga manga, MangaProgressUpdate progressUpdate) {
+        return manga.toBuilder()
+                .progress(MangaProgress.valueOf(progressUpdate.getProgress()))
+                .chaptersRead(progressUpdate.getChaptersRead())
+                .volumesRead(progressUpdate.getVolumesRead())
+                .rating(progressUpdate.getRating())
+                .build();
+    }
+
+    public static Manga withCollection(Manga manga, MangaCollectionUpdate collectionUpdate) {
+        return manga.toBuilder()
+                .digitalCollection(collectionUpdate.isDigitalCollection())
+                .physicalCollection(collectionUpdate.isPhysicalCollection())
+                .volumesAvailable(collectionUpdate.getVolumesAvailable())
+                .volumesOwned(collectionUpdate.getVolumesOwned())
+                .volumesAcquired(collectionUpdate.getVolumesAcquired())
+                .volumesEdition(collectionUpdate.getVolumesEdition())
+                .build();
+    }
+}
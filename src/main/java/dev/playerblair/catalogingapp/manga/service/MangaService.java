@@ -1,28 +1,40 @@
 package dev.playerblair.catalogingapp.manga.service;
 
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
 import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaPage;
 import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
 import dev.playerblair.catalogingapp.manga.model.Manga;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MangaService {
 
     List<Manga> listManga();
 
-    List<MangaWrapper> searchManga(String query);
+    List<MangaWrapper> searchManga(String query, String searchToken);
 
-    Manga addManga(Long id);
+    Manga addManga(Long id, String searchToken);
 
     Manga deleteManga(Long id);
 
-    void updateAllMangaInformation();
-
     Manga updateProgress(MangaProgressUpdate progressUpdate);
 
     Manga updateCollection(MangaCollectionUpdate collectionUpdate);
 
     List<Manga> filterManga(MangaFilter filter);
+
+    MangaPage pageManga(MangaFilter filter);
+
+    MangaPage projectManga(MangaFilter filter);
+
+    void streamManga(MangaFilter filter, Consumer<Manga> consumer);
+
+    FilterExplanation explainFilter(MangaFilter filter);
+
+    MangaFacets facetManga(MangaFilter filter);
 }
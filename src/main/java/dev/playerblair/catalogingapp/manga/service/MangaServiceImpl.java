@@ -2,137 +2,182 @@ package dev.playerblair.catalogingapp.manga.service;
 
 import dev.playerblair.catalogingapp.api.service.ApiService;
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.cache.MangaCatalogCache;
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
 import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaPage;
+import dev.playerblair.catalogingapp.manga.dto.MangaProjection;
 import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaSort;
 import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
 import dev.playerblair.catalogingapp.manga.exception.MangaSearchResultNotFoundException;
+import dev.playerblair.catalogingapp.manga.facet.MangaFacetIndex;
 import dev.playerblair.catalogingapp.manga.model.*;
-import dev.playerblair.catalogingapp.manga.repository.AuthorRepository;
+import dev.playerblair.catalogingapp.manga.repository.MangaBulkWriter;
 import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.search.SearchResultStore;
+import org.roaringbitmap.PeekableIntIterator;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Profile("!reactive")
 public class MangaServiceImpl implements MangaService{
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final MangaRepository mangaRepository;
-    private final AuthorRepository authorRepository;
+    private final MangaBulkWriter bulkWriter;
 
     private final ApiService apiService;
-
-    private final Map<Long, MangaWrapper> currentSearchResults = new HashMap<>();
-
-    public MangaServiceImpl(MangaRepository mangaRepository, AuthorRepository authorRepository, ApiService apiService) {
+    private final SearchResultStore searchResultStore;
+    private final MangaCatalogCache catalogCache;
+    private final MangaFacetIndex facetIndex;
+    private final MangaStatsService statsService;
+
+    public MangaServiceImpl(MangaRepository mangaRepository, MangaBulkWriter bulkWriter, ApiService apiService,
+                            SearchResultStore searchResultStore, MangaCatalogCache catalogCache,
+                            MangaFacetIndex facetIndex, MangaStatsService statsService) {
         this.mangaRepository = mangaRepository;
-        this.authorRepository = authorRepository;
+        this.bulkWriter = bulkWriter;
         this.apiService = apiService;
+        this.searchResultStore = searchResultStore;
+        this.catalogCache = catalogCache;
+        this.facetIndex = facetIndex;
+        this.statsService = statsService;
     }
 
     @Override
     public List<Manga> listManga() {
-        return mangaRepository.findAll();
+        return catalogCache.list(mangaRepository::findAll);
     }
 
     @Override
-    public List<MangaWrapper> searchManga(String query) {
+    public List<MangaWrapper> searchManga(String query, String searchToken) {
         List<MangaWrapper> results = apiService.searchManga(query);
-        storeSearchResults(results);
+        searchResultStore.store(searchToken, results);
         return results;
     }
 
     @Override
-    public Manga addManga(Long id) {
-        MangaWrapper mangaWrapper = currentSearchResults.get(id);
+    public Manga addManga(Long id, String searchToken) {
+        MangaWrapper mangaWrapper = searchResultStore.find(searchToken, id)
+                .orElseGet(() -> apiService.getManga(id));
         if (mangaWrapper == null) {
             throw new MangaSearchResultNotFoundException(id);
         }
-        Manga manga = generateManga(currentSearchResults.get(id));
-        manga.getAuthors().forEach(authorRepository::save);
-        return mangaRepository.save(manga);
+        Manga manga = MangaMapper.toManga(mangaWrapper);
+        bulkWriter.upsertAuthors(manga.getAuthors());
+        statsService.record(() -> mangaRepository.replace(manga).orElse(null), previous -> manga);
+        catalogCache.put(manga);
+        facetIndex.index(manga);
+        return manga;
     }
 
     @Override
     public Manga deleteManga(Long id) {
-        Optional<Manga> optionalManga = mangaRepository.findById(id);
-        if (optionalManga.isPresent()) {
-            Manga manga = optionalManga.get();
-            mangaRepository.delete(manga);
-            return manga;
-        }
-       throw new MangaNotFoundException(id);
+        Manga manga = statsService.record(
+                () -> mangaRepository.remove(id).orElseThrow(() -> new MangaNotFoundException(id)),
+                removed -> null).before();
+        catalogCache.evict(id);
+        facetIndex.remove(id);
+        return manga;
     }
 
     @Override
-    public void updateAllMangaInformation() {
-        List<Manga> mangaList = mangaRepository.findAll();
-        mangaList.forEach(manga -> {
-            MangaWrapper updatedManga = apiService.getManga(manga.getMalId());
-            manga.setChapters(updatedManga.getChapters());
-            manga.setVolumes(updatedManga.getVolumes());
-            manga.setStatus(MangaStatus.fromCode(updatedManga.getStatus()));
-            mangaRepository.save(manga);
-        });
+    public Manga updateProgress(MangaProgressUpdate progressUpdate) {
+        Manga manga = statsService.record(
+                () -> mangaRepository.updateProgress(progressUpdate)
+                        .orElseThrow(() -> new MangaNotFoundException(progressUpdate.getMalId())),
+                previous -> MangaMapper.withProgress(previous, progressUpdate)).after();
+        catalogCache.update(manga.getMalId(), cached -> MangaMapper.withProgress(cached, progressUpdate));
+        facetIndex.updateProgress(manga.getMalId(), manga.getProgress());
+        return manga;
     }
 
     @Override
-    public Manga updateProgress(MangaProgressUpdate progressUpdate) {
-        Optional<Manga> optionalManga = mangaRepository.findById(progressUpdate.getMalId());
-        if (optionalManga.isPresent()) {
-            Manga manga = optionalManga.get();
-            manga.setProgress(MangaProgress.valueOf(progressUpdate.getProgress()));
-            manga.setChaptersRead(progressUpdate.getChaptersRead());
-            manga.setVolumesRead(progressUpdate.getVolumesRead());
-            manga.setRating(progressUpdate.getRating());
-            return mangaRepository.save(manga);
-        }
-        throw new MangaNotFoundException(progressUpdate.getMalId());
+    public Manga updateCollection(MangaCollectionUpdate collectionUpdate) {
+        Manga manga = statsService.record(
+                () -> mangaRepository.updateCollection(collectionUpdate)
+                        .orElseThrow(() -> new MangaNotFoundException(collectionUpdate.getMalId())),
+                previous -> MangaMapper.withCollection(previous, collectionUpdate)).after();
+        catalogCache.update(manga.getMalId(), cached -> MangaMapper.withCollection(cached, collectionUpdate));
+        facetIndex.updateCollection(manga.getMalId(), manga.isDigitalCollection(), manga.isPhysicalCollection());
+        return manga;
     }
 
     @Override
-    public Manga updateCollection(MangaCollectionUpdate collectionUpdate) {
-        Optional<Manga> optionalManga = mangaRepository.findById(collectionUpdate.getMalId());
-        if (optionalManga.isPresent()) {
-            Manga manga = optionalManga.get();
-            manga.setDigitalCollection(collectionUpdate.isDigitalCollection());
-            manga.setPhysicalCollection(collectionUpdate.isPhysicalCollection());
-            manga.setVolumesAvailable(collectionUpdate.getVolumesAvailable());
-            manga.setVolumesOwned(collectionUpdate.getVolumesOwned());
-            manga.setVolumesAcquired(collectionUpdate.getVolumesAcquired());
-            manga.setVolumesEdition(collectionUpdate.getVolumesEdition());
-            return mangaRepository.save(manga);
+    public List<Manga> filterManga(MangaFilter filter) {
+        return catalogCache.filter(filter, () -> findByFilter(filter));
+    }
+
+    @Override
+    public MangaPage pageManga(MangaFilter filter) {
+        clampLimit(filter);
+        return page(filter, catalogCache.filter(filter, () -> findByFilter(filter)));
+    }
+
+    @Override
+    public MangaPage projectManga(MangaFilter filter) {
+        if (filter.getLimit() != null || filter.getAfter() != null) {
+            clampLimit(filter);
+        }
+        Set<String> fields = MangaProjection.resolve(filter.getFields());
+        MangaSort.of(filter).ifPresent(sort -> sort.getKeys().stream()
+                .filter(key -> !key.equals("_id"))
+                .forEach(fields::add));
+        return page(filter, mangaRepository.findProjectedByDynamicCriteria(filter, fields));
+    }
+
+    private MangaPage page(MangaFilter filter, List<Manga> manga) {
+        if (filter.getLimit() == null || manga.size() < filter.getLimit()) {
+            return new MangaPage(manga, null);
         }
-        throw new MangaNotFoundException(collectionUpdate.getMalId());
+        Manga last = manga.get(manga.size() - 1);
+        String nextCursor = MangaSort.of(filter).map(sort -> sort.cursor(last)).orElse(String.valueOf(last.getMalId()));
+        return new MangaPage(manga, nextCursor);
     }
 
     @Override
-    public List<Manga> filterManga(MangaFilter filter) {
-        return mangaRepository.findByDynamicCriteria(filter);
-    }
-
-    public Manga generateManga(MangaWrapper mangaWrapper) {
-        List<MangaGenre> genres = mangaWrapper.getGenres().stream()
-                .map(genre -> MangaGenre.fromCode(genre.getName()))
-                .toList();
-        return Manga.builder()
-                .malId(mangaWrapper.getMalId())
-                .title(mangaWrapper.getTitle())
-                .type(MangaType.fromCode(mangaWrapper.getType()))
-                .chapters(mangaWrapper.getChapters())
-                .volumes(mangaWrapper.getVolumes())
-                .status(MangaStatus.fromCode(mangaWrapper.getStatus()))
-                .authors(mangaWrapper.getAuthors())
-                .genres(genres)
-                .url(mangaWrapper.getUrl())
-                .build();
-    }
-
-    public void storeSearchResults(List<MangaWrapper> results) {
-        currentSearchResults.clear();
-
-        for (MangaWrapper manga: results) {
-            currentSearchResults.put(manga.getMalId(), manga);
+    public void streamManga(MangaFilter filter, Consumer<Manga> consumer) {
+        try (Stream<Manga> manga = mangaRepository.streamByDynamicCriteria(filter)) {
+            manga.forEach(consumer);
         }
     }
+
+    @Override
+    public FilterExplanation explainFilter(MangaFilter filter) {
+        return mangaRepository.explainByDynamicCriteria(filter);
+    }
+
+    @Override
+    public MangaFacets facetManga(MangaFilter filter) {
+        return facetIndex.facets(filter)
+                .orElseGet(() -> mangaRepository.facetByDynamicCriteria(filter));
+    }
+
+    private List<Manga> findByFilter(MangaFilter filter) {
+        return facetIndex.match(filter)
+                .map(matches -> {
+                    int limit = filter.getLimit() == null ? Integer.MAX_VALUE : filter.getLimit();
+                    List<Long> ids = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+                    PeekableIntIterator iterator = matches.getIntIterator();
+                    while (iterator.hasNext() && ids.size() < limit) {
+                        ids.add(Integer.toUnsignedLong(iterator.next()));
+                    }
+                    return catalogCache.getAll(ids, mangaRepository::findAllById);
+                })
+                .orElseGet(() -> mangaRepository.findByDynamicCriteria(filter));
+    }
+
+    private void clampLimit(MangaFilter filter) {
+        filter.setLimit(Math.clamp(filter.getLimit() == null ? DEFAULT_PAGE_SIZE : filter.getLimit(), 1, MAX_PAGE_SIZE));
+    }
 }
@@ -0,0 +1,20 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaStats;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public interface MangaStatsService {
+    MangaStats getStats();
+
+    MangaStats rebuildStats();
+
+    /**
+     * Runs a catalog write and records the counter change it made. {@code write} returns the stored manga as it was
+     * before (null if there was none) and {@code after} derives the stored manga after the write (null if removed).
+     */
+    MangaChange record(Supplier<Manga> write, UnaryOperator<Manga> after);
+}
@@ -0,0 +1,80 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaStats;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.repository.MangaStatsRepository;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import dev.playerblair.catalogingapp.manga.stats.MangaStatsCounters;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Serves collection stats from a single materialized counters document. Writes {@code $inc} the counters by the
+ * difference they make, so reads cost one lookup whatever the catalog size; {@link #rebuildStats()} recomputes the
+ * document with an aggregation over the whole catalog and is used to seed it until a seeded document exists.
+ * Writes and their increments run under the read lock and the rebuild under the write lock, so every write is either
+ * counted by the aggregation or incremented on top of the document it replaces, never both or neither.
+ */
+@Slf4j
+@Service
+@Profile("!reactive")
+public class MangaStatsServiceImpl implements MangaStatsService {
+
+    private final MangaStatsRepository statsRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public MangaStatsServiceImpl(MangaStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread.ofVirtual().name("manga-stats-seed").start(() -> {
+            try {
+                if (!MangaStatsCounters.isSeeded(statsRepository.find().orElse(null))) {
+                    rebuildStats();
+                }
+            } catch (RuntimeException exception) {
+                log.warn("Unable to seed manga stats: {}", exception.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public MangaStats getStats() {
+        return MangaStatsCounters.toStats(statsRepository.find().orElse(null));
+    }
+
+    @Override
+    public MangaStats rebuildStats() {
+        MangaStats stats;
+        lock.writeLock().lock();
+        try {
+            stats = MangaStatsCounters.toStats(statsRepository.replace(statsRepository.aggregate()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Rebuilt manga stats over {} manga", stats.getManga());
+        return stats;
+    }
+
+    @Override
+    public MangaChange record(Supplier<Manga> write, UnaryOperator<Manga> after) {
+        lock.readLock().lock();
+        try {
+            Manga before = write.get();
+            MangaChange change = new MangaChange(before, after.apply(before));
+            statsRepository.increment(MangaStatsCounters.delta(change.before(), change.after()));
+            return change;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
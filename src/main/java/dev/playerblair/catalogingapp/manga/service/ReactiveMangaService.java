@@ -0,0 +1,29 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveMangaService {
+
+    Flux<Manga> listManga();
+
+    Flux<MangaWrapper> searchManga(String query, String searchToken);
+
+    Mono<Manga> addManga(Long id, String searchToken);
+
+    Mono<Manga> deleteManga(Long id);
+
+    Mono<Manga> updateProgress(MangaProgressUpdate progressUpdate);
+
+    Mono<Manga> updateCollection(MangaCollectionUpdate collectionUpdate);
+
+    Flux<Manga> filterManga(MangaFilter filter);
+
+    Mono<MangaFacets> facetManga(MangaFilter filter);
+}
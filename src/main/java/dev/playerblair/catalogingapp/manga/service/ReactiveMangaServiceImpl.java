@@ -0,0 +1,101 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.service.ReactiveApiService;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
+import dev.playerblair.catalogingapp.manga.exception.MangaSearchResultNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaRepository;
+import dev.playerblair.catalogingapp.manga.search.SearchResultStore;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+public class ReactiveMangaServiceImpl implements ReactiveMangaService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ReactiveMangaRepository mangaRepository;
+    private final ReactiveApiService apiService;
+    private final SearchResultStore searchResultStore;
+    private final ReactiveMangaStatsService statsService;
+
+    public ReactiveMangaServiceImpl(ReactiveMangaRepository mangaRepository, ReactiveApiService apiService,
+                                    SearchResultStore searchResultStore, ReactiveMangaStatsService statsService) {
+        this.mangaRepository = mangaRepository;
+        this.apiService = apiService;
+        this.searchResultStore = searchResultStore;
+        this.statsService = statsService;
+    }
+
+    @Override
+    public Flux<Manga> listManga() {
+        return mangaRepository.findAll();
+    }
+
+    @Override
+    public Flux<MangaWrapper> searchManga(String query, String searchToken) {
+        return apiService.searchManga(query)
+                .collectList()
+                .doOnNext(results -> searchResultStore.store(searchToken, results))
+                .flatMapIterable(results -> results);
+    }
+
+    @Override
+    public Mono<Manga> addManga(Long id, String searchToken) {
+        return Mono.justOrEmpty(searchResultStore.find(searchToken, id))
+                .switchIfEmpty(Mono.defer(() -> apiService.getManga(id)))
+                .switchIfEmpty(Mono.error(() -> new MangaSearchResultNotFoundException(id)))
+                .map(MangaMapper::toManga)
+                .flatMap(manga -> mangaRepository.upsertAuthors(manga.getAuthors())
+                        .then(statsService.record(mangaRepository.replace(manga), previous -> manga))
+                        .thenReturn(manga));
+    }
+
+    @Override
+    public Mono<Manga> deleteManga(Long id) {
+        return statsService.record(
+                        mangaRepository.deleteById(id).switchIfEmpty(Mono.error(() -> new MangaNotFoundException(id))),
+                        removed -> null)
+                .map(MangaChange::before);
+    }
+
+    @Override
+    public Mono<Manga> updateProgress(MangaProgressUpdate progressUpdate) {
+        return statsService.record(
+                        mangaRepository.updateProgress(progressUpdate)
+                                .switchIfEmpty(Mono.error(() -> new MangaNotFoundException(progressUpdate.getMalId()))),
+                        previous -> MangaMapper.withProgress(previous, progressUpdate))
+                .map(MangaChange::after);
+    }
+
+    @Override
+    public Mono<Manga> updateCollection(MangaCollectionUpdate collectionUpdate) {
+        return statsService.record(
+                        mangaRepository.updateCollection(collectionUpdate)
+                                .switchIfEmpty(Mono.error(() -> new MangaNotFoundException(collectionUpdate.getMalId()))),
+                        previous -> MangaMapper.withCollection(previous, collectionUpdate))
+                .map(MangaChange::after);
+    }
+
+    @Override
+    public Flux<Manga> filterManga(MangaFilter filter) {
+        if (filter.getLimit() != null) {
+            filter.setLimit(Math.clamp(filter.getLimit(), 1, MAX_PAGE_SIZE));
+        }
+        return mangaRepository.findByDynamicCriteria(filter);
+    }
+
+    @Override
+    public Mono<MangaFacets> facetManga(MangaFilter filter) {
+        return mangaRepository.facetByDynamicCriteria(filter);
+    }
+}
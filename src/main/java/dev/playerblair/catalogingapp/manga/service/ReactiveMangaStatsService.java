@@ -0,0 +1,16 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+public interface ReactiveMangaStatsService {
+
+    /**
+     * Runs a catalog write and records the counter change it made. {@code write} emits the stored manga as it was
+     * before (empty if there was none) and {@code after} derives the stored manga after the write (null if removed).
+     */
+    Mono<MangaChange> record(Mono<Manga> write, UnaryOperator<Manga> after);
+}
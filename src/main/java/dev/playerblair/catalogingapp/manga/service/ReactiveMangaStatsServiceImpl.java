@@ -0,0 +1,35 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaStatsRepository;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import dev.playerblair.catalogingapp.manga.stats.MangaStatsCounters;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps the counters document maintained by {@link MangaStatsServiceImpl} current for writes made in the reactive
+ * profile, so stats served after switching back to servlet mode still match the catalog.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMangaStatsServiceImpl implements ReactiveMangaStatsService {
+
+    private final ReactiveMangaStatsRepository statsRepository;
+
+    public ReactiveMangaStatsServiceImpl(ReactiveMangaStatsRepository statsRepository) {
+        this.statsRepository = statsRepository;
+    }
+
+    @Override
+    public Mono<MangaChange> record(Mono<Manga> write, UnaryOperator<Manga> after) {
+        return write
+                .map(before -> new MangaChange(before, after.apply(before)))
+                .switchIfEmpty(Mono.fromSupplier(() -> new MangaChange(null, after.apply(null))))
+                .flatMap(change -> statsRepository.increment(MangaStatsCounters.delta(change.before(), change.after()))
+                        .thenReturn(change));
+    }
+}
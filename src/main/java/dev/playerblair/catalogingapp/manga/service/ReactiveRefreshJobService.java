@@ -0,0 +1,11 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshJobService {
+
+    Mono<RefreshJob> startJob();
+
+    Mono<RefreshJob> getJob(String id);
+}
@@ -0,0 +1,193 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.service.ReactiveApiService;
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshProperties;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshSummary;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaRepository;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveRefreshJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reactive counterpart of {@link RefreshJobServiceImpl}, so the reactive profile refreshes through the reactive Mongo
+ * client rather than loading the blocking one next to it.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+public class ReactiveRefreshJobServiceImpl implements ReactiveRefreshJobService {
+
+    private final ReactiveRefreshJobRepository refreshJobRepository;
+    private final ReactiveMangaRepository mangaRepository;
+    private final ReactiveApiService apiService;
+    private final RefreshProperties properties;
+    private final ReactiveMangaStatsService statsService;
+
+    private final AtomicReference<Mono<RefreshJob>> starting = new AtomicReference<>();
+
+    public ReactiveRefreshJobServiceImpl(ReactiveRefreshJobRepository refreshJobRepository,
+                                         ReactiveMangaRepository mangaRepository, ReactiveApiService apiService,
+                                         RefreshProperties properties, ReactiveMangaStatsService statsService) {
+        this.refreshJobRepository = refreshJobRepository;
+        this.mangaRepository = mangaRepository;
+        this.apiService = apiService;
+        this.properties = properties;
+        this.statsService = statsService;
+    }
+
+    /**
+     * Concurrent callers share one in-flight start, so two requests cannot both see no running job and create one each.
+     */
+    @Override
+    public Mono<RefreshJob> startJob() {
+        Mono<RefreshJob> start = refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)
+                .next()
+                .switchIfEmpty(Mono.defer(this::createJob))
+                .doFinally(signal -> starting.set(null))
+                .cache();
+        Mono<RefreshJob> inFlight = starting.compareAndExchange(null, start);
+        return inFlight == null ? start : inFlight;
+    }
+
+    @Override
+    public Mono<RefreshJob> getJob(String id) {
+        return refreshJobRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RefreshJobNotFoundException(id)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRunningJobs() {
+        refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)
+                .doOnNext(job -> log.info("Resuming refresh job {} after manga {}", job.getId(), job.getLastMalId()))
+                .concatMap(this::runJob)
+                .subscribe(job -> { }, exception -> log.warn("Unable to resume refresh jobs: {}", exception.getMessage()));
+    }
+
+    private Mono<RefreshJob> createJob() {
+        return mangaRepository.count()
+                .flatMap(total -> {
+                    Instant now = Instant.now();
+                    return refreshJobRepository.save(RefreshJob.builder()
+                            .status(RefreshJobStatus.RUNNING)
+                            .total(total)
+                            .startedAt(now)
+                            .updatedAt(now)
+                            .build());
+                })
+                .doOnNext(job -> runJob(job).subscribe());
+    }
+
+    Mono<RefreshJob> runJob(RefreshJob job) {
+        long lastMalId = job.getLastMalId() == null ? Long.MIN_VALUE : job.getLastMalId();
+        return runChunks(job, lastMalId)
+                .then(Mono.fromSupplier(() -> {
+                    job.setStatus(RefreshJobStatus.COMPLETED);
+                    return job;
+                }))
+                .onErrorResume(exception -> {
+                    log.error("Refresh job {} failed", job.getId(), exception);
+                    job.setStatus(RefreshJobStatus.FAILED);
+                    job.setError(exception.getMessage());
+                    return Mono.just(job);
+                })
+                .flatMap(finished -> {
+                    Instant now = Instant.now();
+                    finished.setUpdatedAt(now);
+                    finished.setCompletedAt(now);
+                    return refreshJobRepository.save(finished);
+                });
+    }
+
+    private Mono<Void> runChunks(RefreshJob job, long lastMalId) {
+        return mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(lastMalId, properties.getBatchSize())
+                .collectList()
+                .flatMap(chunk -> chunk.isEmpty() ? Mono.empty() : refresh(chunk)
+                        .flatMap(summary -> {
+                            job.setProcessed(job.getProcessed() + summary.getProcessed());
+                            job.setChanged(job.getChanged() + summary.getChanged());
+                            job.setFailed(job.getFailed() + summary.getFailed());
+                            job.setLastMalId(chunk.get(chunk.size() - 1).getMalId());
+                            job.setUpdatedAt(Instant.now());
+                            return refreshJobRepository.save(job);
+                        })
+                        .then(Mono.defer(() -> runChunks(job, job.getLastMalId()))));
+    }
+
+    /**
+     * Same change detection as the blocking refresh engine: chapter and volume changes get a bulk metadata update,
+     * status changes are written one at a time so the stats delta comes from the replaced document, and unchanged
+     * titles not refreshed within {@code markRefreshedAfter} only have their refresh timestamp moved forward.
+     */
+    Mono<RefreshSummary> refresh(List<Manga> chunk) {
+        long start = System.currentTimeMillis();
+        Instant refreshedAt = Instant.now();
+        Instant recentlyRefreshed = refreshedAt.minus(properties.getMarkRefreshedAfter());
+
+        return Flux.fromIterable(chunk)
+                .flatMap(manga -> {
+                    MangaStatus previousStatus = manga.getStatus();
+                    Instant previousRefreshedAt = manga.getLastRefreshedAt();
+                    return apiService.getManga(manga.getMalId())
+                            .map(updatedManga -> new Refreshed(manga,
+                                    MangaMapper.applyRefresh(manga, updatedManga, refreshedAt), previousStatus,
+                                    previousRefreshedAt))
+                            .switchIfEmpty(Mono.fromSupplier(() -> {
+                                log.warn("Manga {} was not found on Jikan, keeping its stored metadata", manga.getMalId());
+                                return new Refreshed(manga, false, previousStatus, previousRefreshedAt);
+                            }))
+                            .onErrorResume(exception -> {
+                                log.warn("Failed to refresh manga {}: {}", manga.getMalId(), exception.getMessage());
+                                return Mono.empty();
+                            });
+                }, properties.getMaxConcurrency())
+                .collectList()
+                .flatMap(refreshed -> {
+                    List<Manga> changed = refreshed.stream().filter(Refreshed::changed).map(Refreshed::manga).toList();
+                    List<Manga> statusChanged = refreshed.stream()
+                            .filter(Refreshed::statusChanged)
+                            .map(Refreshed::manga)
+                            .toList();
+                    List<Manga> metadataChanged = refreshed.stream()
+                            .filter(result -> result.changed() && !result.statusChanged())
+                            .map(Refreshed::manga)
+                            .toList();
+                    List<Long> unchanged = refreshed.stream()
+                            .filter(result -> !result.changed())
+                            .filter(result -> result.previousRefreshedAt() == null
+                                    || result.previousRefreshedAt().isBefore(recentlyRefreshed))
+                            .map(result -> result.manga().getMalId())
+                            .toList();
+                    int failed = chunk.size() - refreshed.size();
+                    return mangaRepository.updateMetadata(metadataChanged)
+                            .thenMany(Flux.fromIterable(statusChanged).concatMap(manga -> statsService.record(
+                                    mangaRepository.updateMetadata(manga),
+                                    stored -> stored == null ? null : MangaMapper.withMetadata(stored, manga))))
+                            .then(mangaRepository.markRefreshed(unchanged, refreshedAt))
+                            .thenReturn(new RefreshSummary(chunk.size() - failed, changed.size(), failed,
+                                    System.currentTimeMillis() - start));
+                })
+                .doOnNext(summary -> log.info("Refreshed {} manga: {} changed, {} unchanged, {} failed",
+                        summary.getProcessed(), summary.getChanged(), summary.getUnchanged(), summary.getFailed()));
+    }
+
+    private record Refreshed(Manga manga, boolean changed, MangaStatus previousStatus, Instant previousRefreshedAt) {
+
+        boolean statusChanged() {
+            return previousStatus != manga.getStatus();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+
+public interface RefreshJobService {
+
+    RefreshJob startJob();
+
+    RefreshJob getJob(String id);
+}
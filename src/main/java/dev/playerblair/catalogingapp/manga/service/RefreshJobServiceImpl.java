@@ -0,0 +1,123 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import dev.playerblair.catalogingapp.manga.refresh.MangaRefreshEngine;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshProperties;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshSummary;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.repository.RefreshJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+@Profile("!reactive")
+public class RefreshJobServiceImpl implements RefreshJobService {
+
+    private final RefreshJobRepository refreshJobRepository;
+    private final MangaRepository mangaRepository;
+    private final MangaRefreshEngine refreshEngine;
+    private final RefreshProperties properties;
+    private final TaskExecutor refreshJobExecutor;
+
+    private final ReentrantLock startLock = new ReentrantLock();
+
+    public RefreshJobServiceImpl(RefreshJobRepository refreshJobRepository, MangaRepository mangaRepository,
+                                 MangaRefreshEngine refreshEngine, RefreshProperties properties,
+                                 @Qualifier("refreshJobExecutor") TaskExecutor refreshJobExecutor) {
+        this.refreshJobRepository = refreshJobRepository;
+        this.mangaRepository = mangaRepository;
+        this.refreshEngine = refreshEngine;
+        this.properties = properties;
+        this.refreshJobExecutor = refreshJobExecutor;
+    }
+
+    @Override
+    public RefreshJob startJob() {
+        startLock.lock();
+        try {
+            List<RefreshJob> runningJobs = refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING);
+            if (!runningJobs.isEmpty()) {
+                return runningJobs.get(0);
+            }
+
+            Instant now = Instant.now();
+            RefreshJob job = refreshJobRepository.save(RefreshJob.builder()
+                    .status(RefreshJobStatus.RUNNING)
+                    .total(mangaRepository.count())
+                    .startedAt(now)
+                    .updatedAt(now)
+                    .build());
+            refreshJobExecutor.execute(() -> runJob(job));
+            return job;
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    @Override
+    public RefreshJob getJob(String id) {
+        return refreshJobRepository.findById(id)
+                .orElseThrow(() -> new RefreshJobNotFoundException(id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeRunningJobs() {
+        refreshJobExecutor.execute(() -> {
+            try {
+                refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING).forEach(job -> {
+                    log.info("Resuming refresh job {} after manga {}", job.getId(), job.getLastMalId());
+                    runJob(job);
+                });
+            } catch (RuntimeException exception) {
+                log.warn("Unable to resume refresh jobs: {}", exception.getMessage());
+            }
+        });
+    }
+
+    void runJob(RefreshJob job) {
+        try {
+            long lastMalId = job.getLastMalId() == null ? Long.MIN_VALUE : job.getLastMalId();
+            List<Manga> chunk = nextChunk(lastMalId);
+            while (!chunk.isEmpty()) {
+                RefreshSummary summary = refreshEngine.refresh(chunk);
+                lastMalId = chunk.get(chunk.size() - 1).getMalId();
+
+                job.setProcessed(job.getProcessed() + summary.getProcessed());
+                job.setChanged(job.getChanged() + summary.getChanged());
+                job.setFailed(job.getFailed() + summary.getFailed());
+                job.setLastMalId(lastMalId);
+                job.setUpdatedAt(Instant.now());
+                refreshJobRepository.save(job);
+
+                chunk = nextChunk(lastMalId);
+            }
+            job.setStatus(RefreshJobStatus.COMPLETED);
+        } catch (RuntimeException exception) {
+            log.error("Refresh job {} failed", job.getId(), exception);
+            job.setStatus(RefreshJobStatus.FAILED);
+            job.setError(exception.getMessage());
+        }
+        Instant now = Instant.now();
+        job.setUpdatedAt(now);
+        job.setCompletedAt(now);
+        refreshJobRepository.save(job);
+    }
+
+    private List<Manga> nextChunk(long lastMalId) {
+        return mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(lastMalId, Limit.of(properties.getBatchSize()));
+    }
+}
@@ -0,0 +1,9 @@
+package dev.playerblair.catalogingapp.manga.stats;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+
+/**
+ * A stored manga before and after a write; either side is null when the manga did not exist.
+ */
+public record MangaChange(Manga before, Manga after) {
+}
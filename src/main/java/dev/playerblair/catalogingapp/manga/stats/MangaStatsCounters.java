@@ -0,0 +1,149 @@
+package dev.playerblair.catalogingapp.manga.stats;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaStats;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Layout of the materialized stats document. Every manga contributes a fixed set of counters, so a write only has to
+ * {@code $inc} the difference between the contributions of the stored document before and after it.
+ */
+public final class MangaStatsCounters {
+
+    public static final String COLLECTION = "mangaStats";
+    public static final String ID = "catalog";
+    public static final String SEEDED = "seeded";
+
+    private static final List<String> TOTALS = List.of(
+            "manga", "chaptersRead", "volumesRead", "ratingTotal", "rated", "volumesOwned", "volumesAvailable");
+
+    private MangaStatsCounters() {
+    }
+
+    public static Map<String, Long> contribution(Manga manga) {
+        Map<String, Long> counters = new HashMap<>();
+        if (manga == null) {
+            return counters;
+        }
+        counters.put("manga", 1L);
+        counters.put("chaptersRead", (long) manga.getChaptersRead());
+        counters.put("volumesRead", (long) manga.getVolumesRead());
+        counters.put("ratingTotal", (long) manga.getRating());
+        counters.put("rated", manga.getRating() > 0 ? 1L : 0L);
+        counters.put("volumesOwned", (long) manga.getVolumesOwned());
+        counters.put("volumesAvailable", (long) manga.getVolumesAvailable());
+        if (manga.getStatus() != null) {
+            counters.put("status." + manga.getStatus().name() + ".count", 1L);
+            counters.put("status." + manga.getStatus().name() + ".finished",
+                    manga.getProgress() == MangaProgress.FINISHED ? 1L : 0L);
+        }
+        return counters;
+    }
+
+    public static Map<String, Long> delta(Manga before, Manga after) {
+        Map<String, Long> delta = contribution(after);
+        contribution(before).forEach((counter, value) -> delta.merge(counter, -value, Long::sum));
+        delta.values().removeIf(value -> value == 0);
+        return delta;
+    }
+
+    public static Update increments(Map<String, Long> delta) {
+        Update update = new Update();
+        delta.forEach(update::inc);
+        return update;
+    }
+
+    public static Aggregation aggregation() {
+        return Aggregation.newAggregation(Aggregation.facet(Aggregation.group()
+                        .count().as("manga")
+                        .sum("chaptersRead").as("chaptersRead")
+                        .sum("volumesRead").as("volumesRead")
+                        .sum("rating").as("ratingTotal")
+                        .sum(ConditionalOperators.when(ComparisonOperators.valueOf("rating").greaterThanValue(0))
+                                .then(1).otherwise(0)).as("rated")
+                        .sum("volumesOwned").as("volumesOwned")
+                        .sum("volumesAvailable").as("volumesAvailable")).as("totals")
+                .and(Aggregation.group("status")
+                        .count().as("count")
+                        .sum(ConditionalOperators.when(ComparisonOperators.valueOf("progress")
+                                .equalToValue(MangaProgress.FINISHED.name())).then(1).otherwise(0)).as("finished"))
+                .as("status"));
+    }
+
+    public static Document fromAggregation(Document result) {
+        Document counters = new Document("_id", ID);
+        List<Document> totals = result == null ? List.of() : result.getList("totals", Document.class, List.of());
+        Document total = totals.isEmpty() ? new Document() : totals.getFirst();
+        TOTALS.forEach(counter -> counters.put(counter, number(total, counter)));
+
+        Document status = new Document();
+        List<Document> buckets = result == null ? List.of() : result.getList("status", Document.class, List.of());
+        for (Document bucket : buckets) {
+            if (bucket.get("_id") instanceof String value) {
+                status.put(value, new Document("count", number(bucket, "count"))
+                        .append("finished", number(bucket, "finished")));
+            }
+        }
+        counters.put("status", status);
+        counters.put(SEEDED, true);
+        return counters;
+    }
+
+    /**
+     * Whether the document was written by a full aggregation. Increments upsert the document, so one that exists may
+     * still only hold the deltas recorded before it was ever seeded.
+     */
+    public static boolean isSeeded(Document counters) {
+        return counters != null && counters.getBoolean(SEEDED, false);
+    }
+
+    public static MangaStats toStats(Document counters) {
+        Document document = counters == null ? new Document() : counters;
+        long rated = number(document, "rated");
+        long volumesOwned = number(document, "volumesOwned");
+        long volumesAvailable = number(document, "volumesAvailable");
+
+        Map<MangaStatus, Long> statusCount = new EnumMap<>(MangaStatus.class);
+        Map<MangaStatus, Double> completionRatio = new EnumMap<>(MangaStatus.class);
+        document.get("status", new Document()).forEach((status, value) -> {
+            if (value instanceof Document bucket && number(bucket, "count") > 0) {
+                MangaStatus key = MangaStatus.valueOf(status);
+                statusCount.put(key, number(bucket, "count"));
+                completionRatio.put(key, ratio(number(bucket, "finished"), number(bucket, "count")));
+            }
+        });
+
+        return new MangaStats(
+                number(document, "manga"),
+                number(document, "chaptersRead"),
+                number(document, "volumesRead"),
+                rated,
+                ratio(number(document, "ratingTotal"), rated),
+                volumesOwned,
+                volumesAvailable,
+                ratio(volumesOwned, volumesAvailable),
+                statusCount,
+                completionRatio
+        );
+    }
+
+    private static long number(Document document, String key) {
+        Number value = document.get(key, Number.class);
+        return value == null ? 0 : value.longValue();
+    }
+
+    private static double ratio(long numerator, long denominator) {
+        return denominator == 0 ? 0 : (double) numerator / denominator;
+    }
+}
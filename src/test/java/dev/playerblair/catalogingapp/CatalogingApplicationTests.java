@@ -1,13 +1,29 @@
 package dev.playerblair.catalogingapp;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class CatalogingApplicationTests {
 
+	@Autowired
+	private ApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void onlyBlockingMongoClientIsLoaded() {
+		assertThat(context.getBeanNamesForType(MongoTemplate.class)).isNotEmpty();
+		assertThat(context.getBeanNamesForType(ReactiveMongoTemplate.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(com.mongodb.reactivestreams.client.MongoClient.class)).isEmpty();
+	}
+
 }
@@ -0,0 +1,31 @@
+package dev.playerblair.catalogingapp;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class ReactiveCatalogingApplicationTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void contextLoads() {
+	}
+
+	@Test
+	void onlyReactiveMongoClientIsLoaded() {
+		assertThat(context.getBeanNamesForType(ReactiveMongoTemplate.class)).isNotEmpty();
+		assertThat(context.getBeanNamesForType(MongoTemplate.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(com.mongodb.client.MongoClient.class)).isEmpty();
+	}
+
+}
@@ -0,0 +1,115 @@
+package dev.playerblair.catalogingapp.api.decoder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.playerblair.catalogingapp.api.wrapper.GetResponseWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.SearchResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MangaWrapperDecoderTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    public void givenJikanSearchResponse_whenDecodeSearchIsCalled_matchDatabindResult() throws IOException {
+        ArrayNode data = objectMapper.createArrayNode();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:jikan/manga/*.json")) {
+            try (InputStream input = resource.getInputStream()) {
+                data.add(objectMapper.readTree(input));
+            }
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putObject("pagination").put("current_page", 1).put("has_next_page", false);
+        response.set("data", data);
+        byte[] json = objectMapper.writeValueAsBytes(response);
+
+        List<MangaWrapper> decoded = MangaWrapperDecoder.decodeSearch(body(json)).collectList().block();
+
+        SearchResponseWrapper<MangaWrapper> expected = objectMapper.readValue(json, new TypeReference<>() {});
+        assertThat(decoded).hasSize(10).isEqualTo(expected.getData());
+    }
+
+    @Test
+    public void givenJikanMangaResponse_whenDecodeMangaIsCalled_matchDatabindResult() throws IOException {
+        byte[] manga = new PathMatchingResourcePatternResolver().getResource("classpath:jikan/manga/2.json")
+                .getContentAsByteArray();
+        byte[] json = ("{\"data\":" + new String(manga, StandardCharsets.UTF_8) + "}").getBytes(StandardCharsets.UTF_8);
+
+        MangaWrapper decoded = MangaWrapperDecoder.decodeManga(body(json)).block();
+
+        GetResponseWrapper<MangaWrapper> expected = objectMapper.readValue(json, new TypeReference<>() {});
+        assertThat(decoded).isEqualTo(expected.getData());
+        assertThat(decoded.getAuthors()).isNotEmpty();
+        assertThat(decoded.getGenres()).isNotEmpty();
+    }
+
+    @Test
+    public void givenMissingOrNullFields_whenDecodeIsCalled_returnDefaults() {
+        String json = "{\"data\":[{\"mal_id\":7,\"title\":null,\"chapters\":null,\"genres\":null}]}";
+
+        List<MangaWrapper> decoded = MangaWrapperDecoder.decodeSearch(body(json.getBytes(StandardCharsets.UTF_8)))
+                .collectList()
+                .block();
+
+        assertThat(decoded).singleElement().satisfies(manga -> {
+            assertThat(manga.getMalId()).isEqualTo(7L);
+            assertThat(manga.getTitle()).isNull();
+            assertThat(manga.getChapters()).isZero();
+            assertThat(manga.getAuthors()).isEmpty();
+            assertThat(manga.getGenres()).isEmpty();
+        });
+        assertThat(MangaWrapperDecoder.decodeSearch(body("{}".getBytes(StandardCharsets.UTF_8))).collectList().block())
+                .isEmpty();
+        assertThat(MangaWrapperDecoder.decodeManga(body("{\"data\":null}".getBytes(StandardCharsets.UTF_8))).block())
+                .isNull();
+    }
+
+    @Test
+    public void givenMalformedJson_whenDecodeIsCalled_throwUncheckedException() {
+        assertThatThrownBy(() -> MangaWrapperDecoder.decodeSearch(body("{\"data\":[{".getBytes(StandardCharsets.UTF_8)))
+                .collectList()
+                .block())
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    public void givenResponseSplitAcrossChunks_whenDecodeSearchIsCalled_emitEachMangaAsItCompletes() {
+        byte[] json = ("{\"data\":[{\"mal_id\":1,\"title\":\"First\",\"images\":{\"jpg\":{\"image_url\":\"x\"}}},"
+                + "{\"mal_id\":2,\"title\":\"Second\",\"authors\":[{\"mal_id\":3,\"name\":\"Author\"}]}],"
+                + "\"pagination\":{\"has_next_page\":false}}").getBytes(StandardCharsets.UTF_8);
+        Flux<DataBuffer> chunks = Flux.range(0, json.length)
+                .map(index -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[]{json[index]}));
+
+        StepVerifier.create(MangaWrapperDecoder.decodeSearch(chunks))
+                .assertNext(manga -> assertThat(manga.getTitle()).isEqualTo("First"))
+                .assertNext(manga -> {
+                    assertThat(manga.getMalId()).isEqualTo(2L);
+                    assertThat(manga.getAuthors()).singleElement().satisfies(author ->
+                            assertThat(author.getName()).isEqualTo("Author"));
+                })
+                .verifyComplete();
+    }
+
+    private Flux<DataBuffer> body(byte[] json) {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(json));
+    }
+}
@@ -0,0 +1,36 @@
+package dev.playerblair.catalogingapp.api.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    public void givenBurstCapacity_whenReserveIsCalled_permitBurstWithoutWaiting() {
+        RateLimiter rateLimiter = new RateLimiter(new RateLimiter.Bandwidth(3, Duration.ofSeconds(1)));
+
+        assertThat(rateLimiter.reserve(0)).isZero();
+        assertThat(rateLimiter.reserve(0)).isZero();
+        assertThat(rateLimiter.reserve(0)).isZero();
+        assertThat(rateLimiter.reserve(0)).isEqualTo(SECOND / 3);
+    }
+
+    @Test
+    public void givenSeveralBandwidths_whenReserveIsCalled_honourTheStrictestOne() {
+        RateLimiter rateLimiter = new RateLimiter(
+                new RateLimiter.Bandwidth(3, Duration.ofSeconds(1)),
+                new RateLimiter.Bandwidth(4, Duration.ofMinutes(1))
+        );
+
+        for (int i = 0; i < 4; i++) {
+            rateLimiter.reserve(i * SECOND);
+        }
+
+        assertThat(rateLimiter.reserve(4 * SECOND)).isEqualTo(11 * SECOND);
+    }
+}
@@ -0,0 +1,140 @@
+package dev.playerblair.catalogingapp.api.resilience;
+
+import dev.playerblair.catalogingapp.api.config.JikanProperties;
+import dev.playerblair.catalogingapp.api.exception.JikanApiException;
+import dev.playerblair.catalogingapp.api.exception.JikanUnavailableException;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class JikanResilienceTest {
+
+    private JikanProperties properties;
+    private RateLimiter rateLimiter;
+    private JikanResilience resilience;
+
+    @BeforeEach
+    public void setUp() {
+        properties = new JikanProperties();
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getRetry().setMaxBackoff(Duration.ofMillis(10));
+        rateLimiter = spy(new RateLimiter(new RateLimiter.Bandwidth(1000, Duration.ofSeconds(1))));
+        resilience = new JikanResilience(properties, rateLimiter);
+    }
+
+    @Test
+    public void givenTransientServerError_whenApplyIsCalled_retryAndReturnResult() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(error(HttpStatus.SERVICE_UNAVAILABLE, null))
+                : Mono.just("ok"));
+
+        StepVerifier.create(resilience.apply(call))
+                .expectNext("ok")
+                .verifyComplete();
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    public void givenRetries_whenApplyIsCalled_acquirePermitForEveryAttempt() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(error(HttpStatus.TOO_MANY_REQUESTS, null))
+                : Mono.just("ok"));
+
+        StepVerifier.create(resilience.apply(call))
+                .expectNext("ok")
+                .verifyComplete();
+        verify(rateLimiter, times(3)).reserve();
+    }
+
+    @Test
+    public void givenRepeatedTooManyRequests_whenApplyIsCalled_keepCircuitClosed() {
+        properties.getRetry().setMaxAttempts(1);
+        resilience = new JikanResilience(properties, rateLimiter);
+        Mono<String> throttled = Mono.error(() -> error(HttpStatus.TOO_MANY_REQUESTS, null));
+
+        for (int i = 0; i < properties.getCircuitBreaker().getMinimumNumberOfCalls() * 2; i++) {
+            StepVerifier.create(resilience.apply(throttled)).expectError(JikanUnavailableException.class).verify();
+        }
+        assertThat(resilience.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void givenClientError_whenApplyIsCalled_failWithoutRetrying() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(error(HttpStatus.BAD_REQUEST, null));
+        });
+
+        StepVerifier.create(resilience.apply(call))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(JikanApiException.class)
+                        .isNotInstanceOf(JikanUnavailableException.class))
+                .verify();
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    public void givenTooManyRequestsWithRetryAfter_whenBackoffIsCalled_waitRetryAfterCappedAtMaxBackoff() {
+        properties.getRetry().setMaxBackoff(Duration.ofSeconds(30));
+        resilience = new JikanResilience(properties, rateLimiter);
+
+        assertThat(resilience.backoff(error(HttpStatus.TOO_MANY_REQUESTS, "2"), 0)).isEqualTo(Duration.ofSeconds(2));
+        assertThat(resilience.backoff(error(HttpStatus.TOO_MANY_REQUESTS, "120"), 0)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void givenNoRetryAfter_whenBackoffIsCalled_growExponentially() {
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(100));
+        properties.getRetry().setMaxBackoff(Duration.ofSeconds(1));
+        resilience = new JikanResilience(properties, rateLimiter);
+
+        assertThat(resilience.backoff(error(HttpStatus.BAD_GATEWAY, null), 0)).isBetween(Duration.ofMillis(100), Duration.ofMillis(150));
+        assertThat(resilience.backoff(error(HttpStatus.BAD_GATEWAY, null), 2)).isBetween(Duration.ofMillis(400), Duration.ofMillis(600));
+        assertThat(resilience.backoff(error(HttpStatus.BAD_GATEWAY, null), 10)).isBetween(Duration.ofSeconds(1), Duration.ofMillis(1500));
+    }
+
+    @Test
+    public void givenRepeatedFailures_whenApplyIsCalled_openCircuitAndFailFast() {
+        properties.getRetry().setMaxAttempts(1);
+        resilience = new JikanResilience(properties, rateLimiter);
+        Mono<String> failing = Mono.error(() -> error(HttpStatus.INTERNAL_SERVER_ERROR, null));
+
+        for (int i = 0; i < properties.getCircuitBreaker().getMinimumNumberOfCalls(); i++) {
+            StepVerifier.create(resilience.apply(failing)).expectError(JikanUnavailableException.class).verify();
+        }
+        assertThat(resilience.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        AtomicInteger attempts = new AtomicInteger();
+        StepVerifier.create(resilience.apply(Mono.fromCallable(() -> String.valueOf(attempts.incrementAndGet()))))
+                .expectError(JikanUnavailableException.class)
+                .verify();
+        assertThat(attempts).hasValue(0);
+    }
+
+    private static WebClientResponseException error(HttpStatus status, String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.add(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(), headers, new byte[0],
+                StandardCharsets.UTF_8);
+    }
+}
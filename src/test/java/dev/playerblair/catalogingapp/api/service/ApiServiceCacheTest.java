@@ -0,0 +1,99 @@
+package dev.playerblair.catalogingapp.api.service;
+
+import dev.playerblair.catalogingapp.api.config.JikanConfig;
+import dev.playerblair.catalogingapp.api.config.JikanProperties;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import dev.playerblair.catalogingapp.api.resilience.JikanResilience;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(ApiServiceCacheTest.TestConfig.class)
+public class ApiServiceCacheTest {
+
+    private static final AtomicInteger requests = new AtomicInteger();
+
+    @Autowired
+    private ApiService apiService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        requests.set(0);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    public void givenRepeatedQuery_whenSearchMangaIsCalled_callJikanOnce() {
+        List<MangaWrapper> first = apiService.searchManga("Test Manga");
+        List<MangaWrapper> second = apiService.searchManga("  test   MANGA ");
+
+        assertThat(second).isEqualTo(first);
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    public void givenRepeatedId_whenGetMangaIsCalled_callJikanOnce() {
+        apiService.getManga(1L);
+        apiService.getManga(1L);
+        apiService.getManga(2L);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    public void givenCachedId_whenRefreshMangaIsCalled_bypassAndUpdateCache() {
+        apiService.getManga(1L);
+        apiService.refreshManga(1L);
+        apiService.getManga(1L);
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Configuration
+    @Import(JikanConfig.class)
+    @EnableConfigurationProperties(JikanProperties.class)
+    static class TestConfig {
+
+        @Bean
+        public WebClient.Builder webClientBuilder() {
+            return WebClient.builder().exchangeFunction(request -> {
+                requests.incrementAndGet();
+                String body = request.url().getPath().endsWith("/manga")
+                        ? "{\"data\":[{\"mal_id\":1,\"title\":\"Test Manga\"}]}"
+                        : "{\"data\":{\"mal_id\":1,\"title\":\"Test Manga\"}}";
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build());
+            });
+        }
+
+        @Bean
+        public ApiService apiService(WebClient jikanWebClient, JikanProperties properties) {
+            return new ApiServiceImpl(jikanWebClient, new JikanResilience(properties,
+                    new RateLimiter(new RateLimiter.Bandwidth(1000, Duration.ofSeconds(1)))));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.playerblair.catalogingapp.api.service;
+
+import dev.playerblair.catalogingapp.api.config.JikanProperties;
+import dev.playerblair.catalogingapp.api.exception.JikanUnavailableException;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import dev.playerblair.catalogingapp.api.resilience.JikanResilience;
+import dev.playerblair.catalogingapp.api.stub.JikanStubServer;
+import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ApiServiceStubTest {
+
+    private JikanStubServer server;
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void givenRecordedCorpus_whenSearchMangaIsCalled_returnMatchingManga() {
+        ApiService apiService = apiService(JikanStubServer.builder().build());
+
+        List<MangaWrapper> results = apiService.searchManga("  vinland SAGA ");
+
+        assertThat(results).extracting(MangaWrapper::getMalId).containsExactly(656L);
+    }
+
+    @Test
+    public void givenRecordedCorpus_whenGetMangaIsCalled_returnManga() {
+        ApiService apiService = apiService(JikanStubServer.builder().build());
+
+        MangaWrapper manga = apiService.getManga(21L);
+
+        assertThat(manga.getTitle()).isEqualTo("Death Note");
+        assertThat(manga.getAuthors()).extracting(Author::getName).containsExactly("Ohba, Tsugumi", "Obata, Takeshi");
+        assertThat(manga.getGenres()).extracting(GenreWrapper::getName).containsExactly("Supernatural", "Suspense");
+        assertThat(apiService.getManga(999999L)).isNull();
+    }
+
+    @Test
+    public void givenInjectedTooManyRequests_whenGetMangaIsCalled_retryUntilAttemptsAreExhausted() {
+        ApiService apiService = apiService(JikanStubServer.builder().tooManyRequestsRate(1).retryAfterSeconds(0).build());
+
+        assertThatThrownBy(() -> apiService.getManga(1L)).isInstanceOf(JikanUnavailableException.class);
+        assertThat(server.getRequestCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void givenInjectedErrorRate_whenGetMangaIsCalledRepeatedly_recoverThroughRetries() {
+        ApiService apiService = apiService(JikanStubServer.builder().errorRate(0.3).seed(7L).build());
+
+        for (long id : server.getCorpus().keySet()) {
+            assertThat(apiService.getManga(id).getMalId()).isEqualTo(id);
+        }
+        assertThat(server.getRequestCount()).isGreaterThan(server.getCorpus().size());
+    }
+
+    private ApiService apiService(JikanStubServer stub) {
+        server = stub.start();
+        JikanProperties properties = new JikanProperties();
+        properties.setBaseUrl(server.getBaseUrl());
+        properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(100);
+        return new ApiServiceImpl(WebClient.builder().baseUrl(properties.getBaseUrl()).build(), new JikanResilience(properties,
+                new RateLimiter(new RateLimiter.Bandwidth(1000, Duration.ofSeconds(1)))));
+    }
+}
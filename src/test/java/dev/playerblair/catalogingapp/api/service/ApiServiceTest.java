@@ -1,5 +1,10 @@
 package dev.playerblair.catalogingapp.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.catalogingapp.api.config.JikanProperties;
+import dev.playerblair.catalogingapp.api.ratelimit.RateLimiter;
+import dev.playerblair.catalogingapp.api.resilience.JikanResilience;
 import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
 import dev.playerblair.catalogingapp.api.wrapper.GetResponseWrapper;
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
@@ -10,26 +15,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriBuilder;
-import reactor.core.publisher.Mono;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class ApiServiceTest {
 
-    @Mock
-    private WebClient.Builder webClientBuilder;
-
     @Mock
     private WebClient webClient;
 
@@ -76,25 +79,23 @@ public class ApiServiceTest {
                 "www.example.com"
         );
 
-        when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
-        when(webClientBuilder.build()).thenReturn(webClient);
-
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(any(Function.class))).thenReturn(requestHeadersSpec);
         when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
 
-        apiService = new ApiServiceImpl(webClientBuilder);
+        apiService = new ApiServiceImpl(webClient, new JikanResilience(new JikanProperties(),
+                new RateLimiter(new RateLimiter.Bandwidth(1000, Duration.ofSeconds(1)))));
     }
 
     @Test
-    public void givenTitle_whenSearchMangaIsCalled_returnSearchResults() {
+    public void givenTitle_whenSearchMangaIsCalled_returnSearchResults() throws JsonProcessingException {
         String query = "Test Manga";
 
         SearchResponseWrapper<MangaWrapper> searchResponse = new SearchResponseWrapper<>();
         searchResponse.setData(List.of(mangaWrapper1, mangaWrapper2));
 
-        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
-                .thenReturn(Mono.just(searchResponse));
+        when(responseSpec.bodyToFlux(DataBuffer.class))
+                .thenReturn(Flux.just(toBuffer(searchResponse)));
 
         List<MangaWrapper> results = apiService.searchManga(query);
 
@@ -108,14 +109,14 @@ public class ApiServiceTest {
     }
 
     @Test
-    public void givenId_whenGetMangaIsCalled_returnMangaWrapper() {
+    public void givenId_whenGetMangaIsCalled_returnMangaWrapper() throws JsonProcessingException {
         Long id = 1L;
 
         GetResponseWrapper<MangaWrapper> getResponse = new GetResponseWrapper<>();
         getResponse.setData(mangaWrapper1);
 
-        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class)))
-                .thenReturn(Mono.just(getResponse));
+        when(responseSpec.bodyToFlux(DataBuffer.class))
+                .thenReturn(Flux.just(toBuffer(getResponse)));
 
         MangaWrapper mangaWrapper = apiService.getManga(id);
 
@@ -126,4 +127,7 @@ public class ApiServiceTest {
         verify(requestHeadersSpec).retrieve();
     }
 
+    private DataBuffer toBuffer(Object response) throws JsonProcessingException {
+        return DefaultDataBufferFactory.sharedInstance.wrap(new ObjectMapper().writeValueAsBytes(response));
+    }
 }
@@ -0,0 +1,192 @@
+package dev.playerblair.catalogingapp.api.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Builder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded stand-in for the Jikan v4 API serving the recorded payloads under {@code jikan/manga/*.json}, with
+ * optional latency and error/429 injection. Decisions are derived from the seed and the request sequence number,
+ * so a sequential run always sees the same failures.
+ */
+public class JikanStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String CORPUS = "classpath:jikan/manga/*.json";
+
+    private final Map<Long, JsonNode> corpus = loadCorpus();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private final int port;
+    private final Duration latency;
+    private final double errorRate;
+    private final double tooManyRequestsRate;
+    private final int retryAfterSeconds;
+    private final long seed;
+    private HttpServer server;
+
+    @Builder
+    public JikanStubServer(int port, Duration latency, double errorRate, double tooManyRequestsRate,
+                           int retryAfterSeconds, Long seed) {
+        this.port = port;
+        this.latency = latency == null ? Duration.ZERO : latency;
+        this.errorRate = errorRate;
+        this.tooManyRequestsRate = tooManyRequestsRate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.seed = seed == null ? 42L : seed;
+    }
+
+    public JikanStubServer start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v4/manga", this::handle);
+        server.start();
+        return this;
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v4";
+    }
+
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    public Map<Long, JsonNode> getCorpus() {
+        return corpus;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        SplittableRandom random = new SplittableRandom(seed + sequence.getAndIncrement());
+        try (exchange) {
+            if (!latency.isZero()) {
+                Thread.sleep(latency);
+            }
+            double roll = random.nextDouble();
+            if (roll < tooManyRequestsRate) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(retryAfterSeconds));
+                respond(exchange, 429, error(429, "RateLimitException"));
+            } else if (roll < tooManyRequestsRate + errorRate) {
+                respond(exchange, 503, error(503, "ServiceUnavailableException"));
+            } else {
+                route(exchange);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/v4/manga") || path.equals("/v4/manga/")) {
+            String query = UriComponentsBuilder.fromUri(exchange.getRequestURI()).build(true).getQueryParams().getFirst("q");
+            respond(exchange, 200, search(query == null ? "" : URLDecoder.decode(query, StandardCharsets.UTF_8)));
+            return;
+        }
+        try {
+            JsonNode manga = corpus.get(Long.valueOf(path.substring("/v4/manga/".length())));
+            if (manga == null) {
+                respond(exchange, 404, error(404, "BadResponseException"));
+            } else {
+                respond(exchange, 200, MAPPER.createObjectNode().set("data", manga));
+            }
+        } catch (NumberFormatException exception) {
+            respond(exchange, 400, error(400, "BadRequestException"));
+        }
+    }
+
+    private ObjectNode search(String query) {
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        ArrayNode data = MAPPER.createArrayNode();
+        corpus.values().stream()
+                .filter(manga -> manga.get("title").asText().toLowerCase(Locale.ROOT).contains(normalized))
+                .forEach(data::add);
+        ObjectNode response = MAPPER.createObjectNode();
+        response.putObject("pagination")
+                .put("last_visible_page", 1)
+                .put("has_next_page", false)
+                .put("current_page", 1);
+        response.set("data", data);
+        return response;
+    }
+
+    private static ObjectNode error(int status, String type) {
+        return MAPPER.createObjectNode()
+                .put("status", status)
+                .put("type", type)
+                .put("message", "Injected by JikanStubServer");
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<Long, JsonNode> loadCorpus() {
+        Map<Long, JsonNode> corpus = new TreeMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(CORPUS)) {
+                try (InputStream input = resource.getInputStream()) {
+                    JsonNode manga = MAPPER.readTree(input);
+                    corpus.put(manga.get("mal_id").asLong(), manga);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return corpus;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        JikanStubServer server = JikanStubServer.builder()
+                .port(args.length > 0 ? Integer.parseInt(args[0]) : 8089)
+                .latency(Duration.ofMillis(Long.getLong("jikan.stub.latency-ms", 0)))
+                .errorRate(Double.parseDouble(System.getProperty("jikan.stub.error-rate", "0")))
+                .tooManyRequestsRate(Double.parseDouble(System.getProperty("jikan.stub.too-many-requests-rate", "0")))
+                .retryAfterSeconds(Integer.getInteger("jikan.stub.retry-after-seconds", 1))
+                .build()
+                .start();
+        System.out.println("Jikan stub serving " + server.getCorpus().size() + " manga at " + server.getBaseUrl());
+        Thread.currentThread().join();
+    }
+}
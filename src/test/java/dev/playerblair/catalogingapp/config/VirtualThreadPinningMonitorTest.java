@@ -0,0 +1,47 @@
+package dev.playerblair.catalogingapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+public class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    public void setUp() {
+        VirtualThreadProperties properties = new VirtualThreadProperties();
+        properties.setThreshold(Duration.ofMillis(10));
+        monitor = new VirtualThreadPinningMonitor(properties, meterRegistry);
+        monitor.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    public void givenBlockingCallInsideSynchronized_whenRunOnVirtualThread_countPinnedEvent() throws InterruptedException {
+        Object lock = new Object();
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(meterRegistry.counter("jvm.threads.virtual.pinned").count()).isGreaterThanOrEqualTo(1));
+    }
+}
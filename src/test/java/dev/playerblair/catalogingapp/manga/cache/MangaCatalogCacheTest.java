@@ -0,0 +1,136 @@
+package dev.playerblair.catalogingapp.manga.cache;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MangaCatalogCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MangaCatalogCache catalogCache;
+
+    private Manga manga1;
+    private Manga manga2;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogCache = new MangaCatalogCache(Duration.ofMinutes(10), 100, 1000, meterRegistry);
+        manga1 = Manga.builder().malId(1L).title("Test Manga 1").progress(MangaProgress.READING).build();
+        manga2 = Manga.builder().malId(2L).title("Test Manga 2").progress(MangaProgress.TO_READ).build();
+    }
+
+    @Test
+    public void givenEquivalentFilters_whenFilterIsCalled_loadOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        MangaFilter filter = new MangaFilter();
+        filter.setQuery(" Test ");
+        filter.setGenres(List.of("DRAMA", "ACTION"));
+        MangaFilter equivalent = new MangaFilter();
+        equivalent.setQuery("test");
+        equivalent.setGenres(List.of("ACTION", "DRAMA"));
+
+        catalogCache.filter(filter, () -> {
+            loads.incrementAndGet();
+            return List.of(manga1);
+        });
+        List<Manga> result = catalogCache.filter(equivalent, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+
+        assertThat(result).containsExactly(manga1);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "catalog.filter-results").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenUpdatedManga_whenPutIsCalled_invalidateCachedResults() {
+        Manga updated = Manga.builder().malId(1L).title("Test Manga 1").progress(MangaProgress.FINISHED).build();
+        catalogCache.list(() -> List.of(manga1, manga2));
+
+        catalogCache.put(updated);
+
+        assertThat(catalogCache.list(() -> List.of(updated, manga2))).containsExactly(updated, manga2);
+    }
+
+    @Test
+    public void givenWriteDuringLoad_whenListIsCalled_doNotCacheStaleResult() {
+        catalogCache.list(() -> {
+            catalogCache.evict(2L);
+            return List.of(manga1, manga2);
+        });
+
+        assertThat(catalogCache.list(() -> List.of(manga1))).containsExactly(manga1);
+    }
+
+    @Test
+    public void givenRefreshedMetadata_whenRefreshedIsCalled_mergeIntoCachedEntryAndKeepResults() {
+        AtomicInteger loads = new AtomicInteger();
+        catalogCache.list(() -> {
+            loads.incrementAndGet();
+            return List.of(manga1);
+        });
+        Manga refreshed = Manga.builder().malId(1L).title("Stale Title").chapters(120).status(MangaStatus.PUBLISHING)
+                .progress(MangaProgress.TO_READ).build();
+
+        catalogCache.refreshed(List.of(refreshed), false);
+
+        assertThat(catalogCache.list(() -> {
+            loads.incrementAndGet();
+            return List.of();
+        })).singleElement().satisfies(manga -> {
+            assertThat(manga.getChapters()).isEqualTo(120);
+            assertThat(manga.getStatus()).isEqualTo(MangaStatus.PUBLISHING);
+            assertThat(manga.getTitle()).isEqualTo("Test Manga 1");
+            assertThat(manga.getProgress()).isEqualTo(MangaProgress.READING);
+        });
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void givenWriteDuringLoad_whenGetAllIsCalled_doNotCacheStaleEntries() {
+        Manga updated = Manga.builder().malId(1L).title("Test Manga 1").progress(MangaProgress.FINISHED).build();
+        catalogCache.getAll(List.of(1L), ids -> {
+            catalogCache.evict(1L);
+            return List.of(manga1);
+        });
+
+        assertThat(catalogCache.getAll(List.of(1L), ids -> List.of(updated))).containsExactly(updated);
+    }
+
+    @Test
+    public void givenPartialWrites_whenUpdateIsCalled_mergeEachIntoCachedEntry() {
+        catalogCache.getAll(List.of(1L), ids -> List.of(manga1));
+
+        catalogCache.update(1L, cached -> cached.toBuilder().physicalCollection(true).build());
+        catalogCache.update(1L, cached -> cached.toBuilder().progress(MangaProgress.FINISHED).build());
+
+        assertThat(catalogCache.getAll(List.of(1L), ids -> List.of())).singleElement().satisfies(manga -> {
+            assertThat(manga.isPhysicalCollection()).isTrue();
+            assertThat(manga.getProgress()).isEqualTo(MangaProgress.FINISHED);
+        });
+    }
+
+    @Test
+    public void givenRefreshDuringLoad_whenGetAllIsCalled_doNotCacheStaleEntries() {
+        Manga refreshed = manga1.toBuilder().chapters(120).build();
+        catalogCache.getAll(List.of(1L), ids -> {
+            catalogCache.refreshed(List.of(refreshed), false);
+            return List.of(manga1);
+        });
+
+        assertThat(catalogCache.getAll(List.of(1L), ids -> List.of(refreshed))).containsExactly(refreshed);
+    }
+}
@@ -116,10 +116,12 @@ public class MangaControllerIntegrationTest {
 
     @Test
     public void givenQuery_whenAddMangaIsCalled_saveManga() throws Exception {
-        mockMvc.perform(get("/manga/search")
-                .param("query", "Monster"));
+        String searchToken = mockMvc.perform(get("/manga/search")
+                .param("query", "Monster"))
+                .andReturn().getResponse().getHeader(MangaController.SEARCH_TOKEN_HEADER);
 
         mockMvc.perform(post("/manga/add")
+                .header(MangaController.SEARCH_TOKEN_HEADER, searchToken)
                 .param("id", "1"))
                 .andExpect(status().is2xxSuccessful())
                 .andExpect(status().isCreated())
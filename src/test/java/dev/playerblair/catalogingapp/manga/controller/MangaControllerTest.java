@@ -1,16 +1,22 @@
 package dev.playerblair.catalogingapp.manga.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.catalogingapp.api.exception.JikanUnavailableException;
 import dev.playerblair.catalogingapp.api.service.ApiService;
 import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
 import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaPage;
 import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
 import dev.playerblair.catalogingapp.manga.model.*;
 import dev.playerblair.catalogingapp.manga.repository.AuthorRepository;
 import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
 import dev.playerblair.catalogingapp.manga.service.MangaService;
+import dev.playerblair.catalogingapp.manga.service.MangaStatsService;
+import dev.playerblair.catalogingapp.manga.service.RefreshJobService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,9 +25,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.List;
+import java.util.Map;
 
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,6 +63,12 @@ public class MangaControllerTest {
     @MockitoBean
     public MangaService mangaService;
 
+    @MockitoBean
+    public RefreshJobService refreshJobService;
+
+    @MockitoBean
+    public MangaStatsService statsService;
+
     private Manga manga1;
     private Manga manga2;
 
@@ -84,6 +105,132 @@ public class MangaControllerTest {
                 .andExpect(content().json(jsonResponse));
     }
 
+    @Test
+    public void givenLimit_whenListMangaIsCalled_returnPageWithNextCursor() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(2);
+
+        when(mangaService.pageManga(filter)).thenReturn(new MangaPage(List.of(manga1, manga2), "2"));
+
+        mockMvc.perform(get("/manga/list")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MangaController.NEXT_CURSOR_HEADER, "2"))
+                .andExpect(jsonPath("$[1].malId").value(2));
+    }
+
+    @Test
+    public void givenLastPage_whenListMangaIsCalled_omitNextCursor() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(2);
+        filter.setAfter("1");
+
+        when(mangaService.pageManga(filter)).thenReturn(new MangaPage(List.of(manga2), null));
+
+        mockMvc.perform(get("/manga/list")
+                .param("limit", "2")
+                .param("after", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(MangaController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$[0].malId").value(2));
+    }
+
+    @Test
+    public void givenSort_whenListMangaIsCalled_returnSortedManga() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setSort("RATING");
+        filter.setDirection("DESC");
+
+        when(mangaService.filterManga(filter)).thenReturn(List.of(manga2, manga1));
+
+        mockMvc.perform(get("/manga/list")
+                .param("sort", "RATING")
+                .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].malId").value(2))
+                .andExpect(jsonPath("$[1].malId").value(1));
+    }
+
+    @Test
+    public void givenFields_whenListMangaIsCalled_returnProjectedManga() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setFields(List.of("summary"));
+
+        Manga projected = Manga.builder()
+                .malId(1L)
+                .title("Manga1")
+                .progress(MangaProgress.READING)
+                .rating(8)
+                .build();
+        when(mangaService.projectManga(filter)).thenReturn(new MangaPage(List.of(projected), null));
+
+        mockMvc.perform(get("/manga/list")
+                .param("fields", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("Manga1"))
+                .andExpect(jsonPath("$[0].progress").value("READING"))
+                .andExpect(jsonPath("$[0].genres").doesNotExist())
+                .andExpect(jsonPath("$[0].chapters").doesNotExist());
+    }
+
+    @Test
+    public void givenFieldsAndLimit_whenFilterMangaIsCalled_returnProjectedPage() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setFields(List.of("title"));
+        filter.setLimit(1);
+
+        Manga projected = Manga.builder().malId(1L).title("Manga1").build();
+        when(mangaService.projectManga(filter)).thenReturn(new MangaPage(List.of(projected), "1"));
+
+        mockMvc.perform(post("/manga/list/filter")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MangaController.NEXT_CURSOR_HEADER, "1"))
+                .andExpect(jsonPath("$[0].title").value("Manga1"));
+    }
+
+    @Test
+    public void givenFilter_whenFacetMangaIsCalled_returnFacetCounts() throws Exception {
+        MangaFilter filter = new MangaFilter();
+        filter.setStatus("FINISHED");
+
+        when(mangaService.facetManga(filter)).thenReturn(new MangaFacets(
+                2, Map.of(MangaGenre.ACTION, 2L), Map.of(MangaStatus.FINISHED, 2L), Map.of(MangaType.MANGA, 2L),
+                Map.of(MangaProgress.READING, 1L), 1, 0));
+
+        mockMvc.perform(post("/manga/list/facets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(filter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.genres.ACTION").value(2))
+                .andExpect(jsonPath("$.digitalCollection").value(1));
+    }
+
+    @Test
+    public void whenStreamMangaIsCalled_returnNewlineDelimitedJson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<Manga> consumer = invocation.getArgument(1);
+            consumer.accept(manga1);
+            consumer.accept(manga2);
+            return null;
+        }).when(mangaService).streamManga(any(MangaFilter.class), any());
+
+        MvcResult result = mockMvc.perform(get("/manga/list/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[1], Manga.class).getTitle()).isEqualTo("Manga2");
+    }
+
     @Test
     public void givenQuery_whenSearchMangaIsCalled_returnSearchResults() throws Exception {
         MangaWrapper mangaWrapper1 = new MangaWrapper(
@@ -115,30 +262,101 @@ public class MangaControllerTest {
         String query = "Manga";
         String jsonResponse = objectMapper.writeValueAsString(manga);
 
-        when(mangaService.searchManga(query)).thenReturn(manga);
+        when(mangaService.searchManga(eq(query), anyString())).thenReturn(manga);
 
         mockMvc.perform(get("/manga/search")
                 .param("query", query))
                 .andExpect(status().isOk())
+                .andExpect(header().exists(MangaController.SEARCH_TOKEN_HEADER))
                 .andExpect(content().json(jsonResponse));
     }
 
+    @Test
+    public void givenJikanUnavailable_whenSearchMangaIsCalled_returnServiceUnavailable() throws Exception {
+        when(mangaService.searchManga(eq("Manga"), anyString()))
+                .thenThrow(new JikanUnavailableException(new IllegalStateException("Circuit open")));
+
+        mockMvc.perform(get("/manga/search")
+                .param("query", "Manga"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string("Jikan API is currently unavailable."));
+    }
+
     @Test
     public void givenId_whenAddMangaIsCalled_saveManga() throws Exception {
         Long id = 1L;
 
-        when((mangaService).addManga(id)).thenReturn(manga1);
+        when((mangaService).addManga(id, "token")).thenReturn(manga1);
 
         String jsonResponse = objectMapper.writeValueAsString(manga1);
 
         mockMvc.perform(post("/manga/add")
+                .header(MangaController.SEARCH_TOKEN_HEADER, "token")
                 .param("id", String.valueOf(id)))
                 .andExpect(status().is2xxSuccessful())
                 .andExpect(status().isCreated())
                 .andExpect(content().json(jsonResponse));
     }
 
-    // TODO add update info
+    @Test
+    public void whenUpdateInfoIsCalled_startRefreshJob() throws Exception {
+        RefreshJob job = RefreshJob.builder()
+                .id("job-1")
+                .status(RefreshJobStatus.RUNNING)
+                .total(2)
+                .build();
+
+        when(refreshJobService.startJob()).thenReturn(job);
+
+        mockMvc.perform(patch("/manga/update-info"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.remaining").value(2));
+    }
+
+    @Test
+    public void whenStartRefreshJobIsCalled_returnJob() throws Exception {
+        RefreshJob job = RefreshJob.builder()
+                .id("job-1")
+                .status(RefreshJobStatus.RUNNING)
+                .build();
+
+        when(refreshJobService.startJob()).thenReturn(job);
+
+        mockMvc.perform(post("/manga/refresh-jobs"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+    }
+
+    @Test
+    public void givenId_whenGetRefreshJobIsCalled_returnProgress() throws Exception {
+        RefreshJob job = RefreshJob.builder()
+                .id("job-1")
+                .status(RefreshJobStatus.RUNNING)
+                .total(10)
+                .processed(6)
+                .failed(1)
+                .lastMalId(42L)
+                .build();
+
+        when(refreshJobService.getJob("job-1")).thenReturn(job);
+
+        mockMvc.perform(get("/manga/refresh-jobs/job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(6))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.remaining").value(3))
+                .andExpect(jsonPath("$.lastMalId").value(42));
+    }
+
+    @Test
+    public void givenInvalidId_whenGetRefreshJobIsCalled_returnNotFound() throws Exception {
+        when(refreshJobService.getJob("missing")).thenThrow(new RefreshJobNotFoundException("missing"));
+
+        mockMvc.perform(get("/manga/refresh-jobs/missing"))
+                .andExpect(status().isNotFound());
+    }
 
     @Test
     public void givenProgressUpdate_whenUpdateProgressIsCalled_updateProgress() throws Exception {
@@ -0,0 +1,112 @@
+package dev.playerblair.catalogingapp.manga.controller;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
+import dev.playerblair.catalogingapp.manga.handler.MangaExceptionHandler;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import dev.playerblair.catalogingapp.manga.service.ReactiveMangaService;
+import dev.playerblair.catalogingapp.manga.service.ReactiveRefreshJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveMangaController.class)
+@Import(MangaExceptionHandler.class)
+@ActiveProfiles("reactive")
+public class ReactiveMangaControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private ReactiveMangaService mangaService;
+
+    @MockitoBean
+    private ReactiveRefreshJobService refreshJobService;
+
+    @Test
+    public void whenListMangaIsCalled_returnManga() {
+        when(mangaService.listManga()).thenReturn(Flux.just(
+                Manga.builder().malId(1L).title("Manga1").build(),
+                Manga.builder().malId(2L).title("Manga2").build()));
+
+        webTestClient.get().uri("/manga/list")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Manga1")
+                .jsonPath("$[1].title").isEqualTo("Manga2");
+    }
+
+    @Test
+    public void givenQuery_whenSearchMangaIsCalled_returnSearchResultsAndToken() {
+        MangaWrapper mangaWrapper = new MangaWrapper();
+        mangaWrapper.setMalId(1L);
+        mangaWrapper.setTitle("Manga1");
+        when(mangaService.searchManga(eq("Manga"), anyString())).thenReturn(Flux.just(mangaWrapper));
+
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/manga/search").queryParam("query", "Manga").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(MangaController.SEARCH_TOKEN_HEADER)
+                .expectBody()
+                .jsonPath("$[0].title").isEqualTo("Manga1");
+    }
+
+    @Test
+    public void givenId_whenAddMangaIsCalled_returnCreated() {
+        when(mangaService.addManga(1L, "token")).thenReturn(Mono.just(Manga.builder().malId(1L).title("Manga1").build()));
+
+        webTestClient.post().uri("/manga/add?id=1")
+                .header(MangaController.SEARCH_TOKEN_HEADER, "token")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.title").isEqualTo("Manga1");
+    }
+
+    @Test
+    public void givenInvalidId_whenDeleteMangaIsCalled_returnNotFound() {
+        when(mangaService.deleteManga(1L)).thenReturn(Mono.error(new MangaNotFoundException(1L)));
+
+        webTestClient.delete().uri("/manga/delete?id=1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void whenStartRefreshJobIsCalled_returnAccepted() {
+        when(refreshJobService.startJob()).thenReturn(Mono.just(RefreshJob.builder().id("job1").status(RefreshJobStatus.RUNNING).build()));
+
+        webTestClient.post().uri("/manga/refresh-jobs")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("job1");
+    }
+
+    @Test
+    public void whenStreamMangaIsCalled_returnNdjson() {
+        when(mangaService.listManga()).thenReturn(Flux.just(Manga.builder().malId(1L).title("Manga1").build()));
+
+        webTestClient.get().uri("/manga/list/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Manga.class).hasSize(1);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.playerblair.catalogingapp.manga.dto;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.repository.MangaQueries;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MangaSortTest {
+
+    private final Manga manga = Manga.builder()
+            .malId(7L)
+            .title("Monster")
+            .status(MangaStatus.FINISHED)
+            .rating(9)
+            .build();
+
+    @Test
+    public void givenManga_whenCursorIsCalled_encodeSortKeyValues() {
+        String cursor = MangaSort.STATUS.cursor(manga);
+
+        assertThat(MangaSort.STATUS.decode(cursor))
+                .isEqualTo(new Document("status", "FINISHED").append("title", "Monster").append("_id", 7L));
+    }
+
+    @Test
+    public void givenCursorOfOtherSort_whenDecodeIsCalled_throwException() {
+        String cursor = MangaSort.TITLE.cursor(manga);
+
+        assertThatThrownBy(() -> MangaSort.RATING.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MangaSort.TITLE.decode("not a cursor")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void givenSortAndCursor_whenFilterIsCalled_sortByKeysAndSeekPastCursor() {
+        MangaFilter filter = new MangaFilter();
+        filter.setSort("rating");
+        filter.setDirection("DESC");
+        filter.setAfter(MangaSort.RATING.cursor(manga));
+        filter.setLimit(20);
+
+        Query query = MangaQueries.filter(filter);
+
+        assertThat(query.getSortObject())
+                .isEqualTo(new Document("rating", -1).append("title", -1).append("_id", -1));
+        assertThat(query.getLimit()).isEqualTo(20);
+        List<Document> branches = query.getQueryObject().getList("$and", Document.class).getFirst()
+                .getList("$or", Document.class);
+        assertThat(branches).hasSize(3);
+        assertThat(branches.getFirst()).isEqualTo(new Document("rating", new Document("$lt", 9)));
+        assertThat(branches.getLast().getList("$and", Document.class)).containsExactly(
+                new Document("rating", 9),
+                new Document("title", "Monster"),
+                new Document("_id", new Document("$lt", 7L)));
+    }
+
+    @Test
+    public void givenPagedFilter_whenFacetsIsCalled_ignoreCursorAndOrdering() {
+        MangaFilter filter = new MangaFilter();
+        filter.setStatus("FINISHED");
+        MangaFilter paged = new MangaFilter();
+        paged.setStatus("FINISHED");
+        paged.setSort("title");
+        paged.setDirection("desc");
+        paged.setAfter(MangaSort.TITLE.cursor(manga));
+        paged.setLimit(20);
+
+        assertThat(MangaQueries.facets(paged).toString()).isEqualTo(MangaQueries.facets(filter).toString());
+    }
+}
@@ -0,0 +1,177 @@
+package dev.playerblair.catalogingapp.manga.facet;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
+import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaGenre;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MangaFacetIndexTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MangaFacetIndex facetIndex;
+
+    private Manga manga1;
+    private Manga manga2;
+    private Manga manga3;
+
+    @BeforeEach
+    public void setUp() {
+        facetIndex = new MangaFacetIndex(mongoTemplate, true);
+        manga1 = Manga.builder().malId(1L).type(MangaType.MANGA).status(MangaStatus.FINISHED)
+                .progress(MangaProgress.READING).genres(List.of(MangaGenre.ACTION, MangaGenre.DRAMA))
+                .digitalCollection(true).build();
+        manga2 = Manga.builder().malId(2L).type(MangaType.MANGA).status(MangaStatus.PUBLISHING)
+                .progress(MangaProgress.READING).genres(List.of(MangaGenre.ACTION)).build();
+        manga3 = Manga.builder().malId(3L).type(MangaType.MANHWA).status(MangaStatus.FINISHED)
+                .progress(MangaProgress.TO_READ).genres(List.of(MangaGenre.ACTION, MangaGenre.DRAMA))
+                .digitalCollection(true).build();
+    }
+
+    private MangaFilter filter(List<String> genres, String status) {
+        MangaFilter filter = new MangaFilter();
+        filter.setGenres(genres);
+        filter.setStatus(status);
+        return filter;
+    }
+
+    @Test
+    public void givenIndexNotBuilt_whenMatchIsCalled_returnEmpty() {
+        assertThat(facetIndex.match(new MangaFilter())).isEmpty();
+    }
+
+    @Test
+    public void givenBuiltIndex_whenMatchIsCalled_intersectFacets() {
+        when(mongoTemplate.stream(any(Query.class), eq(Manga.class))).thenReturn(Stream.of(manga1, manga2, manga3));
+        facetIndex.rebuild();
+
+        assertThat(facetIndex.match(filter(List.of("ACTION", "DRAMA"), "FINISHED")).orElseThrow().toArray())
+                .containsExactly(1, 3);
+
+        MangaFilter filter = filter(List.of("ACTION"), null);
+        filter.setProgress("READING");
+        filter.setType("MANGA");
+        filter.setAfter("1");
+        assertThat(facetIndex.match(filter).orElseThrow().toArray()).containsExactly(2);
+
+        MangaFilter digital = new MangaFilter();
+        digital.setDigitalCollection(true);
+        digital.setType("MANHWA");
+        assertThat(facetIndex.match(digital).orElseThrow().toArray()).containsExactly(3);
+    }
+
+    @Test
+    public void givenBuiltIndex_whenFacetsIsCalled_countMatchesPerFacet() {
+        facetIndex.rebuild(Stream.of(manga1, manga2, manga3));
+
+        MangaFacets facets = facetIndex.facets(filter(List.of("ACTION"), null)).orElseThrow();
+
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getGenres()).isEqualTo(Map.of(MangaGenre.ACTION, 3L, MangaGenre.DRAMA, 2L));
+        assertThat(facets.getStatus()).isEqualTo(Map.of(MangaStatus.FINISHED, 2L, MangaStatus.PUBLISHING, 1L));
+        assertThat(facets.getType()).isEqualTo(Map.of(MangaType.MANGA, 2L, MangaType.MANHWA, 1L));
+        assertThat(facets.getProgress()).isEqualTo(Map.of(MangaProgress.READING, 2L, MangaProgress.TO_READ, 1L));
+        assertThat(facets.getDigitalCollection()).isEqualTo(2);
+        assertThat(facets.getPhysicalCollection()).isZero();
+
+        assertThat(facetIndex.facets(filter(null, "PUBLISHING")).orElseThrow().getGenres())
+                .isEqualTo(Map.of(MangaGenre.ACTION, 1L));
+    }
+
+    @Test
+    public void givenTextSearch_whenMatchIsCalled_returnEmpty() {
+        facetIndex.rebuild(Stream.of(manga1));
+        MangaFilter filter = new MangaFilter();
+        filter.setQuery("Test");
+
+        assertThat(facetIndex.match(filter)).isEmpty();
+
+        MangaFilter sorted = new MangaFilter();
+        sorted.setSort("TITLE");
+        assertThat(facetIndex.match(sorted)).isEmpty();
+    }
+
+    @Test
+    public void givenWrites_whenMatchIsCalled_reflectLatestState() {
+        facetIndex.rebuild(Stream.of(manga1, manga2));
+
+        manga2.setStatus(MangaStatus.FINISHED);
+        facetIndex.index(manga2);
+        facetIndex.remove(1L);
+        facetIndex.index(manga3);
+
+        assertThat(facetIndex.match(filter(null, "FINISHED")).orElseThrow().toArray()).containsExactly(2, 3);
+        assertThat(facetIndex.match(filter(List.of("DRAMA"), null)).orElseThrow().toArray()).containsExactly(3);
+    }
+
+    @Test
+    public void givenWriteDuringRebuild_whenRebuildCompletes_keepWrite() {
+        facetIndex.rebuild(Stream.of(manga1).peek(manga -> facetIndex.remove(1L)));
+
+        assertThat(facetIndex.match(new MangaFilter()).orElseThrow().isEmpty()).isTrue();
+    }
+
+    @Test
+    public void givenStaleSnapshot_whenUpdateStatusIsCalled_moveOnlyStatus() {
+        facetIndex.rebuild(Stream.of(manga1, manga2));
+        Manga stale = manga2.toBuilder().status(MangaStatus.FINISHED).progress(MangaProgress.TO_READ).build();
+
+        facetIndex.updateStatus(List.of(stale));
+
+        assertThat(facetIndex.match(filter(null, "FINISHED")).orElseThrow().toArray()).containsExactly(1, 2);
+        MangaFilter reading = new MangaFilter();
+        reading.setProgress("READING");
+        assertThat(facetIndex.match(reading).orElseThrow().toArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    public void givenStaleSnapshots_whenProgressAndCollectionUpdatesApplyOutOfOrder_keepBothWrites() {
+        facetIndex.rebuild(Stream.of(manga1, manga2));
+        Manga progressSnapshot = manga2.toBuilder().progress(MangaProgress.FINISHED).build();
+        Manga collectionSnapshot = manga2.toBuilder().physicalCollection(true).build();
+
+        facetIndex.updateCollection(2L, collectionSnapshot.isDigitalCollection(), collectionSnapshot.isPhysicalCollection());
+        facetIndex.updateProgress(2L, progressSnapshot.getProgress());
+
+        MangaFilter physical = new MangaFilter();
+        physical.setPhysicalCollection(true);
+        assertThat(facetIndex.match(physical).orElseThrow().toArray()).containsExactly(2);
+        MangaFilter finished = new MangaFilter();
+        finished.setProgress("FINISHED");
+        assertThat(facetIndex.match(finished).orElseThrow().toArray()).containsExactly(2);
+    }
+
+    @Test
+    public void givenPagingFields_whenFacetsIsCalled_countWholeFilter() {
+        facetIndex.rebuild(Stream.of(manga1, manga2, manga3));
+        MangaFilter paged = filter(List.of("ACTION"), null);
+        paged.setAfter("1");
+        paged.setLimit(1);
+        paged.setSort("title");
+        paged.setDirection("desc");
+
+        assertThat(facetIndex.facets(paged)).isEqualTo(facetIndex.facets(filter(List.of("ACTION"), null)));
+        assertThat(facetIndex.facets(paged).orElseThrow().getTotal()).isEqualTo(3);
+    }
+}
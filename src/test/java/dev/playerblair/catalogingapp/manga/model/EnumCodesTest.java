@@ -0,0 +1,44 @@
+package dev.playerblair.catalogingapp.manga.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnumCodesTest {
+
+    @Test
+    public void givenJikanCode_whenFromCodeIsCalled_returnConstant() {
+        assertThat(MangaType.fromCode("One-shot")).isEqualTo(MangaType.ONE_SHOT);
+        assertThat(MangaStatus.fromCode("On Hiatus")).isEqualTo(MangaStatus.ON_HIATUS);
+        assertThat(MangaGenre.fromCode("Horror")).isEqualTo(MangaGenre.HORROR);
+        assertThat(MangaGenre.fromCode("Supernatural")).isEqualTo(MangaGenre.SUPERNATURAL);
+    }
+
+    @Test
+    public void givenDifferentCaseOrConstantName_whenFromCodeIsCalled_returnConstant() {
+        assertThat(MangaType.fromCode(" light novel ")).isEqualTo(MangaType.LIGHT_NOVEL);
+        assertThat(MangaStatus.fromCode("not_yet_published")).isEqualTo(MangaStatus.NOT_YET_PUBLISHED);
+        assertThat(MangaGenre.fromCode("SLICE_OF_LIFE")).isEqualTo(MangaGenre.SLICE_OF_LIFE);
+    }
+
+    @Test
+    public void givenUnknownCode_whenFromCodeIsCalled_returnUnknown() {
+        assertThat(MangaType.fromCode("Webtoon")).isEqualTo(MangaType.UNKNOWN);
+        assertThat(MangaStatus.fromCode(null)).isEqualTo(MangaStatus.UNKNOWN);
+        assertThat(MangaGenre.fromCode("Ecchi")).isEqualTo(MangaGenre.UNKNOWN);
+    }
+
+    @Test
+    public void givenCodesOrNames_whenDeserializedByJackson_returnConstants() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        List<MangaGenre> genres = objectMapper.readValue("[\"Sci-Fi\", \"DRAMA\", \"Isekai\"]",
+                objectMapper.getTypeFactory().constructCollectionType(List.class, MangaGenre.class));
+
+        assertThat(genres).containsExactly(MangaGenre.SCI_FI, MangaGenre.DRAMA, MangaGenre.UNKNOWN);
+        assertThat(objectMapper.writeValueAsString(MangaGenre.SCI_FI)).isEqualTo("\"SCI_FI\"");
+    }
+}
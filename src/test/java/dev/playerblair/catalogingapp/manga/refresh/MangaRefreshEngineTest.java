@@ -0,0 +1,195 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import dev.playerblair.catalogingapp.api.service.ApiService;
+import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.cache.MangaCatalogCache;
+import dev.playerblair.catalogingapp.manga.facet.MangaFacetIndex;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.MangaType;
+import dev.playerblair.catalogingapp.manga.repository.MangaBulkWriter;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.service.MangaStatsService;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MangaRefreshEngineTest {
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private MangaBulkWriter bulkWriter;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private MangaCatalogCache catalogCache;
+
+    @Mock
+    private MangaFacetIndex facetIndex;
+
+    @Mock
+    private MangaStatsService statsService;
+
+    private MangaRefreshEngine refreshEngine;
+
+    private Manga manga1;
+    private Manga manga2;
+    private Manga manga3;
+
+    @BeforeEach
+    public void setUp() {
+        RefreshProperties properties = new RefreshProperties();
+        properties.setBatchSize(2);
+        properties.setMaxConcurrency(4);
+
+        refreshEngine = new MangaRefreshEngine(apiService, bulkWriter, mangaRepository, properties, catalogCache,
+                facetIndex, statsService);
+
+        manga1 = Manga.builder().malId(1L).title("Test Manga 1").type(MangaType.MANGA).status(MangaStatus.PUBLISHING).build();
+        manga2 = Manga.builder().malId(2L).title("Test Manga 2").type(MangaType.MANGA).status(MangaStatus.PUBLISHING).build();
+        manga3 = Manga.builder().malId(3L).title("Test Manga 3").type(MangaType.MANGA).status(MangaStatus.PUBLISHING).build();
+    }
+
+    private MangaWrapper wrapper(Long id, String status) {
+        return new MangaWrapper(id, "Test Manga " + id, "Manga", 100, 10, status, List.of(), List.of(new GenreWrapper("Action")), "www.example.com");
+    }
+
+    @Test
+    public void givenMangaList_whenRefreshIsCalled_updateMangaInBatches() {
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Publishing"));
+        when(apiService.refreshManga(2L)).thenReturn(wrapper(2L, "Publishing"));
+        when(apiService.refreshManga(3L)).thenReturn(wrapper(3L, "Publishing"));
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1, manga2, manga3));
+
+        assertThat(summary.getProcessed()).isEqualTo(3);
+        assertThat(summary.getFailed()).isZero();
+        assertThat(summary.getChanged()).isEqualTo(3);
+        assertThat(manga1.getVolumes()).isEqualTo(10);
+        assertThat(manga3.getChapters()).isEqualTo(100);
+        verify(bulkWriter).updateMetadata(argThat(batch -> batch.size() == 2));
+        verify(bulkWriter).updateMetadata(argThat(batch -> batch.size() == 1));
+    }
+
+    @Test
+    public void givenFailingApiCall_whenRefreshIsCalled_countFailureAndContinue() {
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Publishing"));
+        when(apiService.refreshManga(2L)).thenThrow(new IllegalStateException("Upstream error"));
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1, manga2));
+
+        assertThat(summary.getProcessed()).isEqualTo(1);
+        assertThat(summary.getFailed()).isEqualTo(1);
+        verify(bulkWriter, times(1)).updateMetadata(anyList());
+    }
+
+    @Test
+    public void givenMangaMissingFromJikan_whenRefreshIsCalled_keepMetadataAndMarkRefreshed() {
+        manga1.setChapters(100);
+        when(apiService.refreshManga(1L)).thenReturn(null);
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1));
+
+        assertThat(summary.getFailed()).isZero();
+        assertThat(summary.getUnchanged()).isEqualTo(1);
+        assertThat(manga1.getChapters()).isEqualTo(100);
+        verify(bulkWriter, never()).updateMetadata(anyList());
+        verify(bulkWriter).markRefreshed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    public void givenUnchangedMetadata_whenRefreshIsCalled_skipWriteAndCountUnchanged() {
+        manga1.setChapters(100);
+        manga1.setVolumes(10);
+        manga1.setStatus(MangaStatus.FINISHED);
+        manga2.setChapters(100);
+        manga2.setVolumes(5);
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Finished"));
+        when(apiService.refreshManga(2L)).thenReturn(wrapper(2L, "Publishing"));
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1, manga2));
+
+        assertThat(summary.getProcessed()).isEqualTo(2);
+        assertThat(summary.getChanged()).isEqualTo(1);
+        assertThat(summary.getUnchanged()).isEqualTo(1);
+        verify(bulkWriter).updateMetadata(argThat(batch -> batch.size() == 1 && batch.contains(manga2)));
+        verify(bulkWriter).markRefreshed(eq(List.of(1L)), any());
+        assertThat(manga1.getLastRefreshedAt()).isNotNull();
+    }
+
+    @Test
+    public void givenNothingChanged_whenRefreshIsCalled_onlyMarkRefreshed() {
+        manga1.setChapters(100);
+        manga1.setVolumes(10);
+        manga1.setStatus(MangaStatus.FINISHED);
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Finished"));
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1));
+
+        assertThat(summary.getUnchanged()).isEqualTo(1);
+        verify(bulkWriter, never()).updateMetadata(anyList());
+        verify(bulkWriter).markRefreshed(eq(List.of(1L)), any());
+    }
+
+    @Test
+    public void givenNothingChangedAndRecentlyRefreshed_whenRefreshIsCalled_neverWrite() {
+        manga1.setChapters(100);
+        manga1.setVolumes(10);
+        manga1.setStatus(MangaStatus.FINISHED);
+        manga1.setLastRefreshedAt(Instant.now().minusSeconds(60));
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Finished"));
+
+        RefreshSummary summary = refreshEngine.refresh(List.of(manga1));
+
+        assertThat(summary.getUnchanged()).isEqualTo(1);
+        verify(bulkWriter, never()).updateMetadata(anyList());
+        verify(bulkWriter, never()).markRefreshed(anyList(), any());
+    }
+
+    @Test
+    public void givenStatusChange_whenRefreshIsCalled_recordDeltaFromStoredDocument() {
+        Manga stored = manga1.toBuilder().progress(MangaProgress.FINISHED).build();
+        when(apiService.refreshManga(1L)).thenReturn(wrapper(1L, "Finished"));
+        when(mangaRepository.updateMetadata(manga1)).thenReturn(Optional.of(stored));
+        when(statsService.record(any(), any())).thenAnswer(invocation -> {
+            Manga before = invocation.<Supplier<Manga>>getArgument(0).get();
+            return new MangaChange(before, invocation.<UnaryOperator<Manga>>getArgument(1).apply(before));
+        });
+        ArgumentCaptor<UnaryOperator<Manga>> after = ArgumentCaptor.captor();
+
+        refreshEngine.refresh(List.of(manga1));
+
+        verify(statsService).record(any(), after.capture());
+        assertThat(after.getValue().apply(stored)).satisfies(manga -> {
+            assertThat(manga.getStatus()).isEqualTo(MangaStatus.FINISHED);
+            assertThat(manga.getProgress()).isEqualTo(MangaProgress.FINISHED);
+        });
+        verify(bulkWriter, never()).updateMetadata(anyList());
+        verify(facetIndex).updateStatus(List.of(manga1));
+        verify(catalogCache).refreshed(List.of(manga1), true);
+    }
+}
@@ -0,0 +1,87 @@
+package dev.playerblair.catalogingapp.manga.refresh;
+
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduledMangaRefresherTest {
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private MangaRefreshEngine refreshEngine;
+
+    private ScheduledMangaRefresher refresher;
+
+    private final Instant now = Instant.parse("2026-01-10T00:00:00Z");
+
+    @BeforeEach
+    public void setUp() {
+        RefreshProperties properties = new RefreshProperties();
+        properties.getSchedule().setBatchSize(3);
+        properties.getSchedule().setIntervals(new EnumMap<>(Map.of(
+                MangaStatus.FINISHED, Duration.ofDays(30),
+                MangaStatus.PUBLISHING, Duration.ofDays(1)
+        )));
+        refresher = new ScheduledMangaRefresher(mangaRepository, refreshEngine, properties);
+    }
+
+    @Test
+    public void givenDueManga_whenNextBatchIsCalled_servePublishingFirstWithinBudget() {
+        Manga publishing1 = Manga.builder().malId(1L).status(MangaStatus.PUBLISHING).build();
+        Manga publishing2 = Manga.builder().malId(2L).status(MangaStatus.PUBLISHING).build();
+        Manga finished = Manga.builder().malId(3L).status(MangaStatus.FINISHED).build();
+        when(mangaRepository.findDueForRefresh(MangaStatus.PUBLISHING, now.minus(Duration.ofDays(1)), 3))
+                .thenReturn(List.of(publishing1, publishing2));
+        when(mangaRepository.findDueForRefresh(MangaStatus.FINISHED, now.minus(Duration.ofDays(30)), 1))
+                .thenReturn(List.of(finished));
+
+        List<Manga> batch = refresher.nextBatch(now);
+
+        assertThat(batch).containsExactly(publishing1, publishing2, finished);
+        InOrder inOrder = inOrder(mangaRepository);
+        inOrder.verify(mangaRepository).findDueForRefresh(eq(MangaStatus.PUBLISHING), any(), eq(3));
+        inOrder.verify(mangaRepository).findDueForRefresh(eq(MangaStatus.FINISHED), any(), eq(1));
+    }
+
+    @Test
+    public void givenBudgetFilled_whenNextBatchIsCalled_skipRemainingStatuses() {
+        List<Manga> publishing = List.of(
+                Manga.builder().malId(1L).build(),
+                Manga.builder().malId(2L).build(),
+                Manga.builder().malId(3L).build());
+        when(mangaRepository.findDueForRefresh(eq(MangaStatus.PUBLISHING), any(), eq(3))).thenReturn(publishing);
+
+        assertThat(refresher.nextBatch(now)).hasSize(3);
+        verify(mangaRepository, never()).findDueForRefresh(eq(MangaStatus.FINISHED), any(), anyInt());
+    }
+
+    @Test
+    public void givenNothingDue_whenRefreshDueMangaIsCalled_skipRefresh() {
+        when(mangaRepository.findDueForRefresh(any(), any(), anyInt())).thenReturn(List.of());
+
+        refresher.refreshDueManga();
+
+        verifyNoInteractions(refreshEngine);
+    }
+}
@@ -0,0 +1,42 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthorCacheTest {
+
+    private final AuthorCache authorCache = new AuthorCache(Duration.ofMinutes(1), 100);
+
+    @Test
+    public void givenCachedAndDuplicateAuthors_whenUnknownIsCalled_returnEachNewAuthorOnce() {
+        Author known = new Author(1L, "Known Author", "www.example.com/1");
+        Author unknown = new Author(2L, "Unknown Author", "www.example.com/2");
+        authorCache.putAll(List.of(known));
+
+        List<Author> result = authorCache.unknown(List.of(known, unknown, unknown, new Author()));
+
+        assertThat(result).containsExactly(unknown);
+    }
+
+    @Test
+    public void givenMissingIds_whenGetAllIsCalled_loadOnlyMissingAuthors() {
+        Author cached = new Author(1L, "Cached Author", "www.example.com/1");
+        Author loaded = new Author(2L, "Loaded Author", "www.example.com/2");
+        authorCache.putAll(List.of(cached));
+
+        Map<Long, Author> authors = authorCache.getAll(List.of(1L, 2L), missing -> {
+            assertThat(missing).isEqualTo(Set.of(2L));
+            return Map.of(2L, loaded);
+        });
+
+        assertThat(authors).containsEntry(1L, cached).containsEntry(2L, loaded);
+        assertThat(authorCache.unknown(List.of(loaded))).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MangaAuthorReferenceCallbackTest {
+
+    @Mock
+    private ObjectProvider<MongoTemplate> mongoTemplateProvider;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MangaAuthorReferenceCallback callback;
+
+    private Author author;
+
+    @BeforeEach
+    public void setUp() {
+        callback = new MangaAuthorReferenceCallback(mongoTemplateProvider, new AuthorCache(Duration.ofMinutes(1), 100));
+        author = new Author(1L, "Test Author 1", "www.example.com/people/1");
+    }
+
+    @Test
+    public void givenEmbeddedAuthors_whenOnBeforeSaveIsCalled_storeReferencesOnly() {
+        Manga manga = Manga.builder().malId(1L).authors(List.of(author)).build();
+        Document document = new Document("_id", 1L)
+                .append("authors", List.of(new Document("_id", 1L).append("name", "Test Author 1").append("url", "www.example.com/people/1")));
+
+        Manga saved = callback.onBeforeSave(manga, document, "manga");
+
+        assertThat(document.getList("authors", Document.class))
+                .containsExactly(new Document("_id", 1L).append("name", "Test Author 1"));
+        assertThat(saved.getAuthors()).containsExactly(author);
+    }
+
+    @Test
+    public void givenAuthorReferences_whenOnAfterConvertIsCalled_resolveAuthorsOnce() {
+        when(mongoTemplateProvider.getObject()).thenReturn(mongoTemplate);
+        when(mongoTemplate.find(any(Query.class), eq(Author.class))).thenReturn(List.of(author));
+
+        Manga first = Manga.builder().malId(1L).authors(List.of(new Author(1L, "Test Author 1", null))).build();
+        Manga second = Manga.builder().malId(2L).authors(List.of(new Author(1L, "Test Author 1", null))).build();
+
+        assertThat(callback.onAfterConvert(first, new Document(), "manga").getAuthors()).containsExactly(author);
+        assertThat(callback.onAfterConvert(second, new Document(), "manga").getAuthors()).containsExactly(author);
+        verify(mongoTemplate, times(1)).find(any(Query.class), eq(Author.class));
+    }
+}
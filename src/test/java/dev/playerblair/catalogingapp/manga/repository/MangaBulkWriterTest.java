@@ -0,0 +1,97 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+@DataMongoTest
+@Testcontainers
+@Import({MangaBulkWriter.class, AuthorCache.class})
+public class MangaBulkWriterTest {
+
+    @Container
+    public static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
+
+    @DynamicPropertySource
+    public static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+        registry.add("catalog.bulk-write.batch-size", () -> 2);
+    }
+
+    @Autowired
+    private MangaBulkWriter bulkWriter;
+
+    @Autowired
+    private MangaRepository mangaRepository;
+
+    @Autowired
+    private AuthorRepository authorRepository;
+
+    private Author author1;
+
+    @BeforeEach
+    public void setUp() {
+        authorRepository.deleteAll();
+        mangaRepository.deleteAll();
+
+        author1 = Author.builder()
+                .malId(1L)
+                .name("Test Author 1")
+                .build();
+
+        authorRepository.save(author1);
+
+        Manga manga1 = Manga.builder()
+                .malId(1L)
+                .title("Test Manga 1")
+                .type(MangaType.MANGA)
+                .authors(List.of(author1))
+                .status(MangaStatus.PUBLISHING)
+                .progress(MangaProgress.READING)
+                .chaptersRead(5)
+                .build();
+
+        mangaRepository.save(manga1);
+    }
+
+    @Test
+    public void givenRefreshedManga_whenUpdateMetadataIsCalled_onlyMetadataIsWritten() {
+        Manga refreshed = Manga.builder()
+                .malId(1L)
+                .chapters(120)
+                .volumes(12)
+                .status(MangaStatus.FINISHED)
+                .build();
+
+        bulkWriter.updateMetadata(List.of(refreshed));
+
+        Manga manga = mangaRepository.findById(1L).get();
+        assertThat(manga.getStatus()).isEqualTo(MangaStatus.FINISHED);
+        assertThat(manga.getChapters()).isEqualTo(120);
+        assertThat(manga.getTitle()).isEqualTo("Test Manga 1");
+        assertThat(manga.getChaptersRead()).isEqualTo(5);
+    }
+
+    @Test
+    public void givenNewAndExistingAuthors_whenUpsertAuthorsIsCalled_writeInBatches() {
+        Author author2 = Author.builder().malId(2L).name("Test Author 2").build();
+        Author author3 = Author.builder().malId(3L).name("Test Author 3").build();
+
+        int written = bulkWriter.upsertAuthors(List.of(author1, author2, author3));
+
+        assertThat(written).isEqualTo(3);
+        assertThat(authorRepository.findAll()).hasSize(3);
+    }
+}
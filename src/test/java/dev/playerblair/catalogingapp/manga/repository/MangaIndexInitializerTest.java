@@ -0,0 +1,73 @@
+package dev.playerblair.catalogingapp.manga.repository;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaSort;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MangaIndexInitializerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private IndexOperations indexOperations;
+
+    @Mock
+    private MangaBulkWriter bulkWriter;
+
+    @Test
+    public void whenCreateIndexesIsCalled_ensureFilterIndexes() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(Manga.class)).thenReturn(indexOperations);
+
+        new MangaIndexInitializer(mongoTemplate, bulkWriter).createIndexes();
+
+        ArgumentCaptor<IndexDefinition> indexes = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations, atLeastOnce()).ensureIndex(indexes.capture());
+
+        List<String> names = indexes.getAllValues().stream()
+                .map(index -> index.getIndexOptions().getString("name"))
+                .toList();
+        assertThat(names).contains("genres_status_progress", "status_progress", "authors_name", "progress",
+                "title_grams", "author_grams", "status_last_refreshed_at");
+
+        Document genresIndex = indexes.getAllValues().stream()
+                .filter(index -> index.getIndexOptions().getString("name").equals("genres_status_progress"))
+                .findFirst().get().getIndexKeys();
+        assertThat(genresIndex.keySet()).containsExactly("genres", "status", "progress");
+
+        for (MangaSort sort : MangaSort.values()) {
+            Document sortIndex = indexes.getAllValues().stream()
+                    .filter(index -> index.getIndexOptions().getString("name").equals(sort.getIndex()))
+                    .findFirst().get().getIndexKeys();
+            assertThat(sortIndex.keySet()).containsExactlyElementsOf(sort.getKeys());
+        }
+    }
+
+    @Test
+    public void givenUnavailableDatabase_whenCreateIndexesIsCalled_doNotThrow() {
+        when(mongoTemplate.getConverter()).thenThrow(new IllegalStateException("No connection"));
+
+        new MangaIndexInitializer(mongoTemplate, bulkWriter).createIndexes();
+    }
+}
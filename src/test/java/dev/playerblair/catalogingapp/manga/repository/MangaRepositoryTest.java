@@ -1,11 +1,17 @@
 package dev.playerblair.catalogingapp.manga.repository;
 
+import dev.playerblair.catalogingapp.manga.dto.FilterExplanation;
+import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
 import dev.playerblair.catalogingapp.manga.model.*;
+import dev.playerblair.catalogingapp.manga.search.MangaSearchGramsCallback;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
@@ -15,9 +21,12 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @DataMongoTest
 @Testcontainers
+@Import(MangaSearchGramsCallback.class)
 public class MangaRepositoryTest {
 
     @Container
@@ -34,6 +43,9 @@ public class MangaRepositoryTest {
     @Autowired
     private AuthorRepository authorRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @BeforeEach
     public void setUp() {
         authorRepository.deleteAll();
@@ -153,6 +165,34 @@ public class MangaRepositoryTest {
         assertThat(mangaRepository.findByDynamicCriteria(filter)).hasSize(2);
     }
 
+    @Test
+    public void givenTitleSubstring_whenFindByDynamicCriteriaIsCalled_returnFilteredManga() {
+        MangaFilter filter = new MangaFilter();
+        filter.setQuery("anga 1: reb");
+        assertThat(mangaRepository.findByDynamicCriteria(filter))
+                .extracting(Manga::getMalId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    public void givenRegexCharacters_whenFindByDynamicCriteriaIsCalled_matchThemLiterally() {
+        MangaFilter filter = new MangaFilter();
+        filter.setQuery("Manga (1");
+        assertThat(mangaRepository.findByDynamicCriteria(filter)).isEmpty();
+
+        filter.setQuery(".*");
+        assertThat(mangaRepository.findByDynamicCriteria(filter)).isEmpty();
+    }
+
+    @Test
+    public void givenPartialAuthorName_whenFindByDynamicCriteriaIsCalled_returnFilteredManga() {
+        MangaFilter filter = new MangaFilter();
+        filter.setAuthor("author 2");
+        assertThat(mangaRepository.findByDynamicCriteria(filter))
+                .extracting(Manga::getMalId)
+                .containsExactly(3L);
+    }
+
     @Test
     public void givenGenres_whenFindByDynamicCriteriaIsCalled_returnFilteredManga() {
         MangaFilter filter = new MangaFilter();
@@ -201,4 +241,93 @@ public class MangaRepositoryTest {
         filter.setProgress("DROPPED");
         assertThat(mangaRepository.findByDynamicCriteria(filter)).isEmpty();
     }
+
+    @Test
+    public void givenProgressUpdate_whenUpdateProgressIsCalled_returnPreviousManga() {
+        MangaProgressUpdate progressUpdate = new MangaProgressUpdate(3L, "DROPPED", 12, 1, 4);
+
+        Manga previous = mangaRepository.updateProgress(progressUpdate).get();
+        Manga manga = mangaRepository.findById(3L).get();
+
+        assertThat(previous.getProgress()).isEqualTo(MangaProgress.READING);
+        assertThat(manga.getProgress()).isEqualTo(MangaProgress.DROPPED);
+        assertThat(manga.getChaptersRead()).isEqualTo(12);
+        assertThat(previous.getTitle()).isEqualTo("Test Manga 2");
+        assertThat(previous.getAuthors()).hasSize(1);
+    }
+
+    @Test
+    public void givenInvalidId_whenUpdateProgressIsCalled_returnEmpty() {
+        MangaProgressUpdate progressUpdate = new MangaProgressUpdate(4L, "DROPPED", 12, 1, 4);
+        assertThat(mangaRepository.updateProgress(progressUpdate)).isEmpty();
+    }
+
+    @Test
+    public void givenCollectionUpdate_whenUpdateCollectionIsCalled_returnPreviousManga() {
+        MangaCollectionUpdate collectionUpdate = new MangaCollectionUpdate(2L, true, true, 2, 2, List.of(1, 2), "Paperback");
+
+        Manga previous = mangaRepository.updateCollection(collectionUpdate).get();
+        Manga manga = mangaRepository.findById(2L).get();
+
+        assertThat(previous.getVolumesAcquired()).isNullOrEmpty();
+        assertThat(manga.isPhysicalCollection()).isTrue();
+        assertThat(manga.getVolumesAcquired()).containsExactly(1, 2);
+        assertThat(manga.getStatus()).isEqualTo(MangaStatus.DISCONTINUED);
+    }
+
+    @Test
+    public void givenLimit_whenFindByDynamicCriteriaIsCalled_returnFirstPage() {
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(2);
+        assertThat(mangaRepository.findByDynamicCriteria(filter))
+                .extracting(Manga::getMalId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void givenCursor_whenFindByDynamicCriteriaIsCalled_returnNextPage() {
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(2);
+        filter.setAfter("2");
+        assertThat(mangaRepository.findByDynamicCriteria(filter))
+                .extracting(Manga::getMalId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    public void givenFilter_whenStreamByDynamicCriteriaIsCalled_streamMatchingManga() {
+        MangaFilter filter = new MangaFilter();
+        filter.setProgress("FINISHED");
+        try (Stream<Manga> manga = mangaRepository.streamByDynamicCriteria(filter)) {
+            assertThat(manga).hasSize(2);
+        }
+    }
+
+    @Test
+    public void givenFields_whenFindProjectedByDynamicCriteriaIsCalled_returnOnlyThoseFields() {
+        MangaFilter filter = new MangaFilter();
+        filter.setStatus("FINISHED");
+
+        List<Manga> manga = mangaRepository.findProjectedByDynamicCriteria(filter, Set.of("malId", "title", "authors"));
+
+        assertThat(manga).hasSize(1);
+        assertThat(manga.get(0).getMalId()).isEqualTo(1L);
+        assertThat(manga.get(0).getTitle()).isEqualTo("Test Manga 1");
+        assertThat(manga.get(0).getAuthors()).extracting(Author::getMalId).containsExactly(1L);
+        assertThat(manga.get(0).getGenres()).isNull();
+    }
+
+    @Test
+    public void givenIndexes_whenExplainByDynamicCriteriaIsCalled_reportIndexUsage() {
+        new MangaIndexInitializer(mongoTemplate, null).createIndexes();
+
+        MangaFilter filter = new MangaFilter();
+        filter.setStatus("PUBLISHING");
+        filter.setProgress("READING");
+
+        FilterExplanation explanation = mangaRepository.explainByDynamicCriteria(filter);
+
+        assertThat(explanation.isIndexUsed()).isTrue();
+        assertThat(explanation.getReturned()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,47 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchGramsTest {
+
+    @Test
+    public void givenText_whenOfIsCalled_returnDistinctLowercaseTrigrams() {
+        assertThat(SearchGrams.of("Nana NANA")).containsExactly("nan", "ana", "na ", "a n", " na");
+    }
+
+    @Test
+    public void givenShortText_whenOfIsCalled_returnNoGrams() {
+        assertThat(SearchGrams.of("Ao")).isEmpty();
+        assertThat(SearchGrams.of((String) null)).isEmpty();
+    }
+
+    @Test
+    public void givenQuery_whenOfIsCalled_returnSubsetOfTitleGrams() {
+        assertThat(SearchGrams.of("Fullmetal Alchemist")).containsAll(SearchGrams.of("  METAL   alch "));
+    }
+
+    @Test
+    public void givenRegexMetacharacters_whenEscapeRegexIsCalled_escapeThem() {
+        assertThat(SearchGrams.escapeRegex("Re:Zero (Vol.1) [x]*"))
+                .isEqualTo("Re:Zero \\(Vol\\.1\\) \\[x\\]\\*");
+    }
+
+    @Test
+    public void givenManga_whenIndexIsCalled_setTitleAndAuthorGrams() {
+        Manga manga = Manga.builder()
+                .title("Monster")
+                .authors(List.of(new Author(1L, "Urasawa, Naoki", "www.example.com")))
+                .build();
+
+        MangaSearchGramsCallback.index(manga);
+
+        assertThat(manga.getTitleGrams()).contains("mon", "ter");
+        assertThat(manga.getAuthorGrams()).contains("ura", "nao");
+    }
+}
@@ -0,0 +1,45 @@
+package dev.playerblair.catalogingapp.manga.search;
+
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchResultStoreTest {
+
+    private final SearchResultStore store = new SearchResultStore(Duration.ofMinutes(1), 1000);
+
+    @Test
+    public void givenStoredResults_whenFindIsCalled_returnResultForSameTokenOnly() {
+        MangaWrapper mangaWrapper = new MangaWrapper();
+        mangaWrapper.setMalId(1L);
+
+        store.store("token1", List.of(mangaWrapper));
+
+        assertThat(store.find("token1", 1L)).contains(mangaWrapper);
+        assertThat(store.find("token2", 1L)).isEmpty();
+        assertThat(store.find(null, 1L)).isEmpty();
+    }
+
+    @Test
+    public void givenConcurrentSearches_whenFindIsCalled_keepEveryTokensResults() {
+        List<CompletableFuture<Void>> searches = IntStream.range(0, 50)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    MangaWrapper mangaWrapper = new MangaWrapper();
+                    mangaWrapper.setMalId(1L);
+                    mangaWrapper.setTitle("Manga" + i);
+                    store.store("token" + i, List.of(mangaWrapper));
+                }))
+                .toList();
+        searches.forEach(CompletableFuture::join);
+
+        IntStream.range(0, 50).forEach(i ->
+                assertThat(store.find("token" + i, 1L)).hasValueSatisfying(manga ->
+                        assertThat(manga.getTitle()).isEqualTo("Manga" + i)));
+    }
+}
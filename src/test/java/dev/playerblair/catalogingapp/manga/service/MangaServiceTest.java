@@ -3,30 +3,45 @@ package dev.playerblair.catalogingapp.manga.service;
 import dev.playerblair.catalogingapp.api.service.ApiService;
 import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
 import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.cache.MangaCatalogCache;
+import dev.playerblair.catalogingapp.manga.facet.MangaFacetIndex;
 import dev.playerblair.catalogingapp.manga.dto.MangaCollectionUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaFacets;
 import dev.playerblair.catalogingapp.manga.dto.MangaFilter;
+import dev.playerblair.catalogingapp.manga.dto.MangaPage;
 import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.dto.MangaSort;
 import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
 import dev.playerblair.catalogingapp.manga.exception.MangaSearchResultNotFoundException;
 import dev.playerblair.catalogingapp.manga.model.*;
-import dev.playerblair.catalogingapp.manga.repository.AuthorRepository;
+import dev.playerblair.catalogingapp.manga.repository.MangaBulkWriter;
 import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.search.SearchResultStore;
+import dev.playerblair.catalogingapp.manga.stats.MangaChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.roaringbitmap.RoaringBitmap;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,16 +51,27 @@ public class MangaServiceTest {
     private MangaRepository mangaRepository;
 
     @Mock
-    private AuthorRepository authorRepository;
+    private MangaBulkWriter bulkWriter;
 
     @Mock
     private ApiService apiService;
 
+    @Mock
+    private SearchResultStore searchResultStore;
+
+    @Spy
+    private MangaCatalogCache catalogCache = new MangaCatalogCache(Duration.ofMinutes(10), 100, 1000, new SimpleMeterRegistry());
+
+    @Mock
+    private MangaFacetIndex facetIndex;
+
+    @Mock
+    private MangaStatsService statsService;
+
     @InjectMocks
     private MangaServiceImpl mangaService;
 
-    @Mock
-    private Map<Long, MangaWrapper> mockSearchResults;
+    private final List<MangaChange> changes = new ArrayList<>();
 
     private Manga manga1;
     private Manga manga2;
@@ -55,6 +81,13 @@ public class MangaServiceTest {
 
     @BeforeEach
     public void setUp() {
+        lenient().when(statsService.record(any(), any())).thenAnswer(invocation -> {
+            Manga before = invocation.<Supplier<Manga>>getArgument(0).get();
+            MangaChange change = new MangaChange(before, invocation.<UnaryOperator<Manga>>getArgument(1).apply(before));
+            changes.add(change);
+            return change;
+        });
+
         Author author1 = Author.builder()
                 .malId(1L)
                 .name("Test Author 1")
@@ -108,6 +141,29 @@ public class MangaServiceTest {
         );
     }
 
+    @Test
+    public void givenCachedList_whenListMangaIsCalledAgain_doNotQueryRepository() {
+        when(mangaRepository.findAll()).thenReturn(List.of(manga1, manga2));
+
+        mangaService.listManga();
+        List<Manga> manga = mangaService.listManga();
+
+        assertThat(manga).containsExactly(manga1, manga2);
+        verify(mangaRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void givenCachedList_whenMangaIsDeleted_reloadList() {
+        when(mangaRepository.findAll()).thenReturn(List.of(manga1, manga2), List.of(manga2));
+        when(mangaRepository.remove(1L)).thenReturn(Optional.of(manga1));
+
+        mangaService.listManga();
+        mangaService.deleteManga(1L);
+
+        assertThat(mangaService.listManga()).containsExactly(manga2);
+        verify(mangaRepository, times(2)).findAll();
+    }
+
     @Test
     public void whenListMangaIsCalled_returnManga() {
         List<Manga> mangaList = List.of(manga1, manga2);
@@ -129,16 +185,28 @@ public class MangaServiceTest {
 
         when(apiService.searchManga(query)).thenReturn(manga);
 
-        List<MangaWrapper> results = mangaService.searchManga(query);
+        List<MangaWrapper> results = mangaService.searchManga(query, "token");
 
+        verify(searchResultStore).store("token", manga);
         assertThat(results).hasSize(2);
         assertThat(manga.get(0).getTitle()).isEqualTo("Test Manga 1");
         assertThat(manga.get(1).getTitle()).isEqualTo("Test Manga 2");
     }
 
     @Test
-    public void givenMangaWrapperObject_whenGenerateMangaIsCalled_returnManga() {
-        Manga manga = mangaService.generateManga(mangaWrapper1);
+    public void givenUnknownGenres_whenToMangaIsCalled_skipThem() {
+        mangaWrapper1.setType("Webtoon");
+        mangaWrapper1.setGenres(List.of(new GenreWrapper("Horror"), new GenreWrapper("Isekai"), new GenreWrapper("Horror")));
+
+        Manga manga = MangaMapper.toManga(mangaWrapper1);
+
+        assertThat(manga.getType()).isEqualTo(MangaType.UNKNOWN);
+        assertThat(manga.getGenres()).containsExactly(MangaGenre.HORROR);
+    }
+
+    @Test
+    public void givenMangaWrapperObject_whenToMangaIsCalled_returnManga() {
+        Manga manga = MangaMapper.toManga(mangaWrapper1);
 
         assertThat(manga.getMalId()).isEqualTo(1L);
         assertThat(manga.getAuthors()).isNotEmpty();
@@ -149,23 +217,52 @@ public class MangaServiceTest {
     public void givenValidId_whenAddMangaIsCalled_saveManga() {
         Long id = 1L;
 
-        when(mockSearchResults.get(id)).thenReturn(mangaWrapper1);
-        ReflectionTestUtils.setField(mangaService, "currentSearchResults", mockSearchResults);
+        when(searchResultStore.find("token", id)).thenReturn(Optional.of(mangaWrapper1));
 
-        mangaService.addManga(id);
+        mangaService.addManga(id, "token");
 
-        verify(authorRepository).save(argThat(author -> author.getName().equals("Test Author 1")));
-        verify(mangaRepository).save(argThat(manga -> manga.getTitle().equals("Test Manga 1")));
+        verify(apiService, never()).getManga(id);
+        verify(bulkWriter).upsertAuthors(argThat(authors -> authors.size() == 1 &&
+                authors.iterator().next().getName().equals("Test Author 1")));
+        verify(mangaRepository).replace(argThat(manga -> manga.getTitle().equals("Test Manga 1")));
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.before()).isNull();
+            assertThat(change.after().getTitle()).isEqualTo("Test Manga 1");
+        });
+    }
+
+    @Test
+    public void givenExistingManga_whenAddMangaIsCalled_recordAgainstReplacedDocument() {
+        Long id = 1L;
+
+        when(searchResultStore.find("token", id)).thenReturn(Optional.of(mangaWrapper1));
+        when(mangaRepository.replace(any(Manga.class))).thenReturn(Optional.of(manga1));
+
+        Manga added = mangaService.addManga(id, "token");
+
+        assertThat(changes).containsExactly(new MangaChange(manga1, added));
+    }
+
+    @Test
+    public void givenIdMissingFromSearchResults_whenAddMangaIsCalled_fetchMangaFromApi() {
+        Long id = 1L;
+
+        when(searchResultStore.find(null, id)).thenReturn(Optional.empty());
+        when(apiService.getManga(id)).thenReturn(mangaWrapper1);
+
+        mangaService.addManga(id, null);
+
+        verify(mangaRepository).replace(argThat(manga -> manga.getTitle().equals("Test Manga 1")));
     }
 
     @Test
     public void givenInvalidId_whenAddMangaIsCalled_throwException() {
         Long id = 1L;
 
-        when(mockSearchResults.get(id)).thenReturn(null);
-        ReflectionTestUtils.setField(mangaService, "currentSearchResults", mockSearchResults);
+        when(searchResultStore.find("token", id)).thenReturn(Optional.empty());
+        when(apiService.getManga(id)).thenReturn(null);
 
-        assertThatThrownBy(() -> mangaService.addManga(id))
+        assertThatThrownBy(() -> mangaService.addManga(id, "token"))
                 .isInstanceOf(MangaSearchResultNotFoundException.class)
                 .hasMessage("Manga with ID 1 not found in search results.");
     }
@@ -174,37 +271,25 @@ public class MangaServiceTest {
     public void givenValidId_whenDeleteMangaIsCalled_deleteManga() {
         Long id = 1L;
 
-        when(mangaRepository.findById(id)).thenReturn(Optional.of(manga1));
+        when(mangaRepository.remove(id)).thenReturn(Optional.of(manga1));
 
-        mangaService.deleteManga(id);
+        assertThat(mangaService.deleteManga(id)).isEqualTo(manga1);
 
-        verify(mangaRepository).delete(manga1);
+        verify(mangaRepository).remove(id);
+        assertThat(changes).containsExactly(new MangaChange(manga1, null));
     }
 
     @Test
     public void givenInvalidId_whenDeleteMangaIsCalled_throwException() {
         Long id = 1L;
 
-        when(mangaRepository.findById(id)).thenReturn(Optional.empty());
+        when(mangaRepository.remove(id)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> mangaService.deleteManga(id))
                 .isInstanceOf(MangaNotFoundException.class)
                 .hasMessage("Manga with ID 1 not found.");
     }
 
-    @Test
-    public void whenUpdateAllMangaInformationIsCalled_updateManga() {
-        List<Manga> mangaList = List.of(manga1, manga2);
-
-        when(mangaRepository.findAll()).thenReturn(mangaList);
-        when(apiService.getManga(manga1.getMalId())).thenReturn(mangaWrapper1);
-        when(apiService.getManga(manga2.getMalId())).thenReturn(mangaWrapper2);
-
-        mangaService.updateAllMangaInformation();
-
-        verify(mangaRepository, times(2)).save(any(Manga.class));
-    }
-
     @Test
     public void givenMangaProgressUpdate_whenUpdateProgressIsCalled_updateProgress() {
         MangaProgressUpdate progressUpdate = new MangaProgressUpdate(
@@ -215,16 +300,18 @@ public class MangaServiceTest {
                 10
         );
 
-        when(mangaRepository.findById(1L)).thenReturn(Optional.of(manga1));
+        when(mangaRepository.updateProgress(progressUpdate)).thenReturn(Optional.of(manga1));
 
-        mangaService.updateProgress(progressUpdate);
+        Manga updatedManga = mangaService.updateProgress(progressUpdate);
 
-        verify(mangaRepository).save(argThat(m ->
-                m.getMalId().equals(progressUpdate.getMalId()) &&
-                m.getProgress().equals(MangaProgress.valueOf(progressUpdate.getProgress())) &&
-                m.getChaptersRead() == progressUpdate.getChaptersRead() &&
-                m.getVolumesRead() == progressUpdate.getVolumesRead()
-        ));
+        verify(mangaRepository).updateProgress(progressUpdate);
+        verify(mangaRepository, never()).save(any(Manga.class));
+        assertThat(changes).containsExactly(new MangaChange(manga1, updatedManga));
+        assertThat(updatedManga.getProgress()).isEqualTo(MangaProgress.FINISHED);
+        assertThat(updatedManga.getChaptersRead()).isEqualTo(100);
+        assertThat(updatedManga.getTitle()).isEqualTo("Test Manga 1");
+        verify(facetIndex).updateProgress(1L, MangaProgress.FINISHED);
+        verify(facetIndex, never()).index(any(Manga.class));
     }
 
     @Test
@@ -237,7 +324,7 @@ public class MangaServiceTest {
                 10
         );
 
-        when(mangaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(mangaRepository.updateProgress(progressUpdate)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> mangaService.updateProgress(progressUpdate))
                 .isInstanceOf(MangaNotFoundException.class)
@@ -256,17 +343,17 @@ public class MangaServiceTest {
                 "Paperback"
         );
 
-        when(mangaRepository.findById(1L)).thenReturn(Optional.of(manga1));
+        when(mangaRepository.updateCollection(collectionUpdate)).thenReturn(Optional.of(manga1));
 
-        mangaService.updateCollection(collectionUpdate);
+        Manga updatedManga = mangaService.updateCollection(collectionUpdate);
 
-        verify(mangaRepository).save(argThat(m ->
-                m.getMalId().equals(collectionUpdate.getMalId()) &&
-                m.isDigitalCollection() &&
-                m.isPhysicalCollection() &&
-                m.getVolumesOwned() == collectionUpdate.getVolumesOwned() &&
-                m.getVolumesAvailable() == collectionUpdate.getVolumesAvailable()
-        ));
+        verify(mangaRepository).updateCollection(collectionUpdate);
+        verify(mangaRepository, never()).save(any(Manga.class));
+        assertThat(changes).containsExactly(new MangaChange(manga1, updatedManga));
+        assertThat(updatedManga.isDigitalCollection()).isTrue();
+        assertThat(updatedManga.getVolumesOwned()).isEqualTo(1);
+        verify(facetIndex).updateCollection(1L, true, true);
+        verify(facetIndex, never()).index(any(Manga.class));
     }
 
     @Test
@@ -281,7 +368,7 @@ public class MangaServiceTest {
                 "Paperback"
         );
 
-        when(mangaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(mangaRepository.updateCollection(collectionUpdate)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> mangaService.updateCollection(collectionUpdate))
                 .isInstanceOf(MangaNotFoundException.class)
@@ -302,4 +389,123 @@ public class MangaServiceTest {
         verify(mangaRepository).findByDynamicCriteria(any(MangaFilter.class));
         assertThat(result).isEqualTo(expectedManga);
     }
+
+    @Test
+    public void givenFullPage_whenPageMangaIsCalled_returnNextCursor() {
+        MangaFilter filter = new MangaFilter();
+        filter.setLimit(2);
+
+        when(mangaRepository.findByDynamicCriteria(filter)).thenReturn(List.of(manga1, manga2));
+
+        MangaPage page = mangaService.pageManga(filter);
+
+        assertThat(page.getManga()).hasSize(2);
+        assertThat(page.getNextCursor()).isEqualTo("2");
+    }
+
+    @Test
+    public void givenFacetMatches_whenPageMangaIsCalled_hydrateOnlyPageFromRepository() {
+        MangaFilter filter = new MangaFilter();
+        filter.setStatus("FINISHED");
+        filter.setLimit(2);
+
+        when(facetIndex.match(filter)).thenReturn(Optional.of(RoaringBitmap.bitmapOf(1, 2, 3)));
+        when(mangaRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(manga2, manga1));
+
+        MangaPage page = mangaService.pageManga(filter);
+
+        assertThat(page.getManga()).containsExactly(manga1, manga2);
+        assertThat(page.getNextCursor()).isEqualTo("2");
+        verify(mangaRepository, never()).findByDynamicCriteria(any(MangaFilter.class));
+    }
+
+    @Test
+    public void givenTextSearch_whenFacetMangaIsCalled_aggregateInRepository() {
+        MangaFilter filter = new MangaFilter();
+        filter.setQuery("Manga");
+        MangaFacets facets = new MangaFacets(2, Map.of(), Map.of(), Map.of(), Map.of(), 1, 0);
+
+        when(facetIndex.facets(filter)).thenReturn(Optional.empty());
+        when(mangaRepository.facetByDynamicCriteria(filter)).thenReturn(facets);
+
+        assertThat(mangaService.facetManga(filter)).isEqualTo(facets);
+    }
+
+    @Test
+    public void givenSort_whenPageMangaIsCalled_returnSortKeyCursor() {
+        MangaFilter filter = new MangaFilter();
+        filter.setSort("TITLE");
+        filter.setLimit(2);
+
+        when(mangaRepository.findByDynamicCriteria(filter)).thenReturn(List.of(manga1, manga2));
+
+        MangaPage page = mangaService.pageManga(filter);
+
+        assertThat(MangaSort.TITLE.decode(page.getNextCursor()))
+                .containsEntry("title", "Test Manga 2")
+                .containsEntry("_id", 2L);
+    }
+
+    @Test
+    public void givenPartialPage_whenPageMangaIsCalled_returnNoCursor() {
+        MangaFilter filter = new MangaFilter();
+        filter.setAfter("1");
+
+        when(mangaRepository.findByDynamicCriteria(filter)).thenReturn(List.of(manga2));
+
+        MangaPage page = mangaService.pageManga(filter);
+
+        assertThat(filter.getLimit()).isEqualTo(50);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void givenFilter_whenStreamMangaIsCalled_passEachMangaToConsumer() {
+        MangaFilter filter = new MangaFilter();
+        List<Manga> streamed = new ArrayList<>();
+
+        when(mangaRepository.streamByDynamicCriteria(filter)).thenReturn(Stream.of(manga1, manga2));
+
+        mangaService.streamManga(filter, streamed::add);
+
+        assertThat(streamed).containsExactly(manga1, manga2);
+    }
+
+    @Test
+    public void givenProjectionProfile_whenProjectMangaIsCalled_resolveFields() {
+        MangaFilter filter = new MangaFilter();
+        filter.setFields(List.of("summary", "genres"));
+
+        mangaService.projectManga(filter);
+
+        verify(mangaRepository).findProjectedByDynamicCriteria(eq(filter), argThat(fields ->
+                fields.containsAll(List.of("malId", "title", "progress", "rating", "genres")) && fields.size() == 5));
+    }
+
+    @Test
+    public void givenFullPage_whenProjectMangaIsCalled_returnCursorOfLastManga() {
+        MangaFilter filter = new MangaFilter();
+        filter.setFields(List.of("title"));
+        filter.setSort("title");
+        filter.setLimit(2);
+
+        when(mangaRepository.findProjectedByDynamicCriteria(eq(filter), any())).thenReturn(List.of(manga1, manga2));
+
+        MangaPage page = mangaService.projectManga(filter);
+
+        assertThat(page.getManga()).containsExactly(manga1, manga2);
+        assertThat(MangaSort.TITLE.decode(page.getNextCursor()))
+                .containsEntry("title", "Test Manga 2")
+                .containsEntry("_id", 2L);
+    }
+
+    @Test
+    public void givenUnknownField_whenProjectMangaIsCalled_throwException() {
+        MangaFilter filter = new MangaFilter();
+        filter.setFields(List.of("password"));
+
+        assertThatThrownBy(() -> mangaService.projectManga(filter))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown field: password");
+    }
 }
@@ -0,0 +1,150 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.service.ReactiveApiService;
+import dev.playerblair.catalogingapp.api.wrapper.GenreWrapper;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.dto.MangaProgressUpdate;
+import dev.playerblair.catalogingapp.manga.exception.MangaNotFoundException;
+import dev.playerblair.catalogingapp.manga.exception.MangaSearchResultNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Author;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaRepository;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaStatsRepository;
+import dev.playerblair.catalogingapp.manga.search.SearchResultStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveMangaServiceTest {
+
+    @Mock
+    private ReactiveMangaRepository mangaRepository;
+
+    @Mock
+    private ReactiveApiService apiService;
+
+    @Mock
+    private SearchResultStore searchResultStore;
+
+    @Mock
+    private ReactiveMangaStatsRepository statsRepository;
+
+    private ReactiveMangaServiceImpl mangaService;
+
+    private MangaWrapper mangaWrapper;
+
+    @BeforeEach
+    public void setUp() {
+        mangaService = new ReactiveMangaServiceImpl(mangaRepository, apiService, searchResultStore,
+                new ReactiveMangaStatsServiceImpl(statsRepository));
+        mangaWrapper = new MangaWrapper(
+                1L,
+                "Test Manga 1",
+                "Manga",
+                100,
+                10,
+                "Finished",
+                List.of(new Author(1L, "Test Author 1", "www.example.com")),
+                List.of(new GenreWrapper("Action")),
+                "www.example.com"
+        );
+    }
+
+    @Test
+    public void givenQuery_whenSearchMangaIsCalled_storeAndReturnSearchResults() {
+        when(apiService.searchManga("Manga")).thenReturn(Flux.just(mangaWrapper));
+
+        StepVerifier.create(mangaService.searchManga("Manga", "token"))
+                .expectNext(mangaWrapper)
+                .verifyComplete();
+
+        verify(searchResultStore).store("token", List.of(mangaWrapper));
+    }
+
+    @Test
+    public void givenIdMissingFromSearchResults_whenAddMangaIsCalled_fetchAndSaveManga() {
+        when(searchResultStore.find("token", 1L)).thenReturn(Optional.empty());
+        when(apiService.getManga(1L)).thenReturn(Mono.just(mangaWrapper));
+        when(mangaRepository.upsertAuthors(anyList())).thenReturn(Mono.empty());
+        when(mangaRepository.replace(any(Manga.class))).thenReturn(Mono.empty());
+        when(statsRepository.increment(anyMap())).thenReturn(Mono.empty());
+
+        StepVerifier.create(mangaService.addManga(1L, "token"))
+                .expectNextMatches(manga -> manga.getTitle().equals("Test Manga 1"))
+                .verifyComplete();
+
+        verify(statsRepository).increment(argThat(delta -> delta.get("manga") == 1L
+                && delta.get("status.FINISHED.count") == 1L));
+    }
+
+    @Test
+    public void givenUnknownId_whenAddMangaIsCalled_returnError() {
+        when(searchResultStore.find("token", 1L)).thenReturn(Optional.empty());
+        when(apiService.getManga(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(mangaService.addManga(1L, "token"))
+                .expectError(MangaSearchResultNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void givenInvalidId_whenUpdateProgressIsCalled_returnError() {
+        MangaProgressUpdate progressUpdate = new MangaProgressUpdate(1L, "READING", 10, 1, 5);
+        when(mangaRepository.updateProgress(progressUpdate)).thenReturn(Mono.empty());
+
+        StepVerifier.create(mangaService.updateProgress(progressUpdate))
+                .expectError(MangaNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    public void givenMangaProgressUpdate_whenUpdateProgressIsCalled_recordDeltaFromStoredDocument() {
+        Manga stored = Manga.builder().malId(1L).title("Test Manga 1").status(MangaStatus.FINISHED)
+                .progress(MangaProgress.READING).chaptersRead(50).build();
+        MangaProgressUpdate progressUpdate = new MangaProgressUpdate(1L, "FINISHED", 100, 10, 8);
+        when(mangaRepository.updateProgress(progressUpdate)).thenReturn(Mono.just(stored));
+        when(statsRepository.increment(anyMap())).thenReturn(Mono.empty());
+
+        StepVerifier.create(mangaService.updateProgress(progressUpdate))
+                .assertNext(manga -> {
+                    assertThat(manga.getProgress()).isEqualTo(MangaProgress.FINISHED);
+                    assertThat(manga.getChaptersRead()).isEqualTo(100);
+                })
+                .verifyComplete();
+
+        verify(statsRepository).increment(argThat(delta -> delta.get("chaptersRead") == 50L
+                && delta.get("status.FINISHED.finished") == 1L && !delta.containsKey("manga")));
+    }
+
+    @Test
+    public void givenStoredManga_whenDeleteMangaIsCalled_returnRemovedMangaAndRecordDelta() {
+        Manga stored = Manga.builder().malId(1L).title("Test Manga 1").status(MangaStatus.FINISHED).build();
+        when(mangaRepository.deleteById(1L)).thenReturn(Mono.just(stored));
+        when(statsRepository.increment(anyMap())).thenReturn(Mono.empty());
+
+        StepVerifier.create(mangaService.deleteManga(1L))
+                .expectNext(stored)
+                .verifyComplete();
+
+        verify(statsRepository).increment(argThat(delta -> delta.get("manga") == -1L));
+    }
+}
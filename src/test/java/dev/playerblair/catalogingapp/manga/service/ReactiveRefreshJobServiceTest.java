@@ -0,0 +1,180 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.api.service.ReactiveApiService;
+import dev.playerblair.catalogingapp.api.wrapper.MangaWrapper;
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshProperties;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaRepository;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveMangaStatsRepository;
+import dev.playerblair.catalogingapp.manga.repository.ReactiveRefreshJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReactiveRefreshJobServiceTest {
+
+    @Mock
+    private ReactiveRefreshJobRepository refreshJobRepository;
+
+    @Mock
+    private ReactiveMangaRepository mangaRepository;
+
+    @Mock
+    private ReactiveApiService apiService;
+
+    @Mock
+    private ReactiveMangaStatsRepository statsRepository;
+
+    private ReactiveRefreshJobServiceImpl refreshJobService;
+
+    private Manga manga1;
+    private Manga manga2;
+
+    @BeforeEach
+    public void setUp() {
+        RefreshProperties properties = new RefreshProperties();
+        properties.setBatchSize(2);
+
+        refreshJobService = new ReactiveRefreshJobServiceImpl(refreshJobRepository, mangaRepository, apiService,
+                properties, new ReactiveMangaStatsServiceImpl(statsRepository));
+
+        manga1 = Manga.builder().malId(1L).title("Test Manga 1").chapters(10).status(MangaStatus.PUBLISHING).build();
+        manga2 = Manga.builder().malId(2L).title("Test Manga 2").chapters(20).status(MangaStatus.PUBLISHING).build();
+    }
+
+    @Test
+    public void whenStartJobIsCalled_refreshCatalogAndCompleteJob() {
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(Flux.empty());
+        when(refreshJobRepository.save(any(RefreshJob.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mangaRepository.count()).thenReturn(Mono.just(2L));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(Long.MIN_VALUE, 2)).thenReturn(Flux.just(manga1, manga2));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(2L, 2)).thenReturn(Flux.empty());
+        when(apiService.getManga(1L)).thenReturn(Mono.just(wrapper(1L, 11)));
+        when(apiService.getManga(2L)).thenReturn(Mono.just(wrapper(2L, 20)));
+        when(mangaRepository.updateMetadata(anyList())).thenReturn(Mono.empty());
+        when(mangaRepository.markRefreshed(anyList(), any(Instant.class))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(refreshJobService.startJob())
+                .assertNext(job -> {
+                    assertThat(job.getStatus()).isEqualTo(RefreshJobStatus.COMPLETED);
+                    assertThat(job.getProcessed()).isEqualTo(2);
+                    assertThat(job.getChanged()).isEqualTo(1);
+                    assertThat(job.getLastMalId()).isEqualTo(2L);
+                })
+                .verifyComplete();
+
+        verify(mangaRepository).updateMetadata(List.of(manga1));
+        verify(mangaRepository).markRefreshed(eq(List.of(2L)), any(Instant.class));
+    }
+
+    @Test
+    public void givenRunningJob_whenStartJobIsCalled_returnRunningJob() {
+        RefreshJob runningJob = RefreshJob.builder().id("job-1").status(RefreshJobStatus.RUNNING).build();
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(Flux.just(runningJob));
+
+        StepVerifier.create(refreshJobService.startJob())
+                .expectNext(runningJob)
+                .verifyComplete();
+
+        verifyNoInteractions(apiService, mangaRepository);
+    }
+
+    @Test
+    public void givenCheckpointAndFailedFetch_whenResumeRunningJobsIsCalled_continueAfterLastMalIdAndCountFailure() {
+        RefreshJob job = RefreshJob.builder()
+                .id("job-1")
+                .status(RefreshJobStatus.RUNNING)
+                .total(2)
+                .processed(1)
+                .lastMalId(1L)
+                .build();
+
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(Flux.just(job));
+        when(refreshJobRepository.save(any(RefreshJob.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(1L, 2)).thenReturn(Flux.just(manga2));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(2L, 2)).thenReturn(Flux.empty());
+        when(apiService.getManga(2L)).thenReturn(Mono.error(new IllegalStateException("Jikan unavailable")));
+        when(mangaRepository.updateMetadata(anyList())).thenReturn(Mono.empty());
+        when(mangaRepository.markRefreshed(anyList(), any(Instant.class))).thenReturn(Mono.just(0L));
+
+        refreshJobService.resumeRunningJobs();
+
+        verify(apiService, never()).getManga(1L);
+        assertThat(job.getProcessed()).isEqualTo(1);
+        assertThat(job.getFailed()).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(RefreshJobStatus.COMPLETED);
+    }
+
+    @Test
+    public void givenMangaMissingFromJikan_whenRefreshIsCalled_markRefreshed() {
+        when(apiService.getManga(1L)).thenReturn(Mono.empty());
+        when(mangaRepository.updateMetadata(anyList())).thenReturn(Mono.empty());
+        when(mangaRepository.markRefreshed(anyList(), any(Instant.class))).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(refreshJobService.refresh(List.of(manga1)))
+                .assertNext(summary -> {
+                    assertThat(summary.getFailed()).isZero();
+                    assertThat(summary.getUnchanged()).isEqualTo(1);
+                })
+                .verifyComplete();
+
+        verify(mangaRepository).markRefreshed(eq(List.of(1L)), any(Instant.class));
+    }
+
+    @Test
+    public void givenStatusChange_whenRefreshIsCalled_writeDocumentAndRecordDelta() {
+        Manga stored = manga1.toBuilder().progress(MangaProgress.FINISHED).build();
+        when(apiService.getManga(1L)).thenReturn(Mono.just(new MangaWrapper(1L, "Test Manga 1", "Manga", 10, 0,
+                "Finished", List.of(), List.of(), "www.example.com")));
+        when(mangaRepository.updateMetadata(anyList())).thenReturn(Mono.empty());
+        when(mangaRepository.updateMetadata(any(Manga.class))).thenReturn(Mono.just(stored));
+        when(mangaRepository.markRefreshed(anyList(), any(Instant.class))).thenReturn(Mono.just(0L));
+        when(statsRepository.increment(anyMap())).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshJobService.refresh(List.of(manga1)))
+                .assertNext(summary -> assertThat(summary.getChanged()).isEqualTo(1))
+                .verifyComplete();
+
+        verify(mangaRepository).updateMetadata(List.of());
+        verify(statsRepository).increment(argThat(delta -> delta.get("status.PUBLISHING.count") == -1L
+                && delta.get("status.PUBLISHING.finished") == -1L
+                && delta.get("status.FINISHED.count") == 1L
+                && delta.get("status.FINISHED.finished") == 1L));
+    }
+
+    @Test
+    public void givenInvalidId_whenGetJobIsCalled_throwException() {
+        when(refreshJobRepository.findById("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(refreshJobService.getJob("missing"))
+                .expectErrorSatisfies(exception -> assertThat(exception)
+                        .isInstanceOf(RefreshJobNotFoundException.class)
+                        .hasMessage("Refresh job with ID missing not found."))
+                .verify();
+    }
+
+    private MangaWrapper wrapper(Long malId, int chapters) {
+        return new MangaWrapper(malId, "Test Manga " + malId, "Manga", chapters, 0, "Publishing", List.of(), List.of(), "www.example.com");
+    }
+}
@@ -0,0 +1,115 @@
+package dev.playerblair.catalogingapp.manga.service;
+
+import dev.playerblair.catalogingapp.manga.exception.RefreshJobNotFoundException;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.RefreshJob;
+import dev.playerblair.catalogingapp.manga.model.RefreshJobStatus;
+import dev.playerblair.catalogingapp.manga.refresh.MangaRefreshEngine;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshProperties;
+import dev.playerblair.catalogingapp.manga.refresh.RefreshSummary;
+import dev.playerblair.catalogingapp.manga.repository.MangaRepository;
+import dev.playerblair.catalogingapp.manga.repository.RefreshJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshJobServiceTest {
+
+    @Mock
+    private RefreshJobRepository refreshJobRepository;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private MangaRefreshEngine refreshEngine;
+
+    private RefreshJobServiceImpl refreshJobService;
+
+    private Manga manga1;
+    private Manga manga2;
+
+    @BeforeEach
+    public void setUp() {
+        RefreshProperties properties = new RefreshProperties();
+        properties.setBatchSize(2);
+
+        refreshJobService = new RefreshJobServiceImpl(refreshJobRepository, mangaRepository, refreshEngine,
+                properties, new SyncTaskExecutor());
+
+        manga1 = Manga.builder().malId(1L).title("Test Manga 1").build();
+        manga2 = Manga.builder().malId(2L).title("Test Manga 2").build();
+    }
+
+    @Test
+    public void whenStartJobIsCalled_refreshCatalogAndCompleteJob() {
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(List.of());
+        when(refreshJobRepository.save(any(RefreshJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(mangaRepository.count()).thenReturn(2L);
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(Long.MIN_VALUE, Limit.of(2)))
+                .thenReturn(List.of(manga1, manga2));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(2L, Limit.of(2))).thenReturn(List.of());
+        when(refreshEngine.refresh(List.of(manga1, manga2))).thenReturn(new RefreshSummary(2, 2, 0, 10));
+
+        RefreshJob job = refreshJobService.startJob();
+
+        assertThat(job.getStatus()).isEqualTo(RefreshJobStatus.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(2);
+        assertThat(job.getChanged()).isEqualTo(2);
+        assertThat(job.getRemaining()).isZero();
+        assertThat(job.getLastMalId()).isEqualTo(2L);
+    }
+
+    @Test
+    public void givenRunningJob_whenStartJobIsCalled_returnRunningJob() {
+        RefreshJob runningJob = RefreshJob.builder().id("job-1").status(RefreshJobStatus.RUNNING).build();
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(List.of(runningJob));
+
+        assertThat(refreshJobService.startJob()).isSameAs(runningJob);
+        verifyNoInteractions(refreshEngine);
+    }
+
+    @Test
+    public void givenCheckpoint_whenResumeRunningJobsIsCalled_continueAfterLastMalId() {
+        RefreshJob job = RefreshJob.builder()
+                .id("job-1")
+                .status(RefreshJobStatus.RUNNING)
+                .total(2)
+                .processed(1)
+                .lastMalId(1L)
+                .build();
+
+        when(refreshJobRepository.findByStatus(RefreshJobStatus.RUNNING)).thenReturn(List.of(job));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(1L, Limit.of(2))).thenReturn(List.of(manga2));
+        when(mangaRepository.findByMalIdGreaterThanOrderByMalIdAsc(2L, Limit.of(2))).thenReturn(List.of());
+        when(refreshEngine.refresh(List.of(manga2))).thenReturn(new RefreshSummary(1, 1, 0, 10));
+
+        refreshJobService.resumeRunningJobs();
+
+        verify(refreshEngine, never()).refresh(List.of(manga1, manga2));
+        assertThat(job.getProcessed()).isEqualTo(2);
+        assertThat(job.getStatus()).isEqualTo(RefreshJobStatus.COMPLETED);
+    }
+
+    @Test
+    public void givenInvalidId_whenGetJobIsCalled_throwException() {
+        when(refreshJobRepository.findById("missing")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> refreshJobService.getJob("missing"))
+                .isInstanceOf(RefreshJobNotFoundException.class)
+                .hasMessage("Refresh job with ID missing not found.");
+    }
+}
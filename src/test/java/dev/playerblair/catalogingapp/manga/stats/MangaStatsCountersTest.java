@@ -0,0 +1,92 @@
+package dev.playerblair.catalogingapp.manga.stats;
+
+import dev.playerblair.catalogingapp.manga.dto.MangaStats;
+import dev.playerblair.catalogingapp.manga.model.Manga;
+import dev.playerblair.catalogingapp.manga.model.MangaProgress;
+import dev.playerblair.catalogingapp.manga.model.MangaStatus;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MangaStatsCountersTest {
+
+    private final Manga manga = Manga.builder()
+            .malId(1L)
+            .status(MangaStatus.FINISHED)
+            .progress(MangaProgress.READING)
+            .chaptersRead(10)
+            .volumesRead(1)
+            .volumesOwned(2)
+            .volumesAvailable(4)
+            .build();
+
+    @Test
+    public void givenNewManga_whenDeltaIsCalled_incrementEveryNonZeroCounter() {
+        assertThat(MangaStatsCounters.delta(null, manga)).isEqualTo(Map.of(
+                "manga", 1L,
+                "chaptersRead", 10L,
+                "volumesRead", 1L,
+                "volumesOwned", 2L,
+                "volumesAvailable", 4L,
+                "status.FINISHED.count", 1L));
+    }
+
+    @Test
+    public void givenProgressUpdate_whenDeltaIsCalled_incrementOnlyChangedCounters() {
+        Manga updated = manga.toBuilder().progress(MangaProgress.FINISHED).chaptersRead(25).rating(8).build();
+
+        assertThat(MangaStatsCounters.delta(manga, updated)).isEqualTo(Map.of(
+                "chaptersRead", 15L,
+                "ratingTotal", 8L,
+                "rated", 1L,
+                "status.FINISHED.finished", 1L));
+        assertThat(MangaStatsCounters.delta(updated, null)).containsEntry("manga", -1L)
+                .containsEntry("status.FINISHED.count", -1L)
+                .containsEntry("chaptersRead", -25L);
+    }
+
+    @Test
+    public void givenAggregationResult_whenToStatsIsCalled_deriveRatios() {
+        Document result = new Document("totals", List.of(new Document("manga", 3)
+                        .append("chaptersRead", 120)
+                        .append("volumesRead", 12)
+                        .append("ratingTotal", 15)
+                        .append("rated", 2)
+                        .append("volumesOwned", 6)
+                        .append("volumesAvailable", 8)))
+                .append("status", List.of(
+                        new Document("_id", "FINISHED").append("count", 2).append("finished", 1),
+                        new Document("_id", "PUBLISHING").append("count", 1).append("finished", 0)));
+
+        MangaStats stats = MangaStatsCounters.toStats(MangaStatsCounters.fromAggregation(result));
+
+        assertThat(stats.getManga()).isEqualTo(3);
+        assertThat(stats.getChaptersRead()).isEqualTo(120);
+        assertThat(stats.getAverageRating()).isEqualTo(7.5);
+        assertThat(stats.getOwnedRatio()).isEqualTo(0.75);
+        assertThat(stats.getStatusCount()).isEqualTo(Map.of(MangaStatus.FINISHED, 2L, MangaStatus.PUBLISHING, 1L));
+        assertThat(stats.getCompletionRatio()).isEqualTo(Map.of(MangaStatus.FINISHED, 0.5, MangaStatus.PUBLISHING, 0.0));
+    }
+
+    @Test
+    public void givenNoCounters_whenToStatsIsCalled_returnZeroStats() {
+        MangaStats stats = MangaStatsCounters.toStats(null);
+
+        assertThat(stats.getManga()).isZero();
+        assertThat(stats.getAverageRating()).isZero();
+        assertThat(stats.getStatusCount()).isEmpty();
+    }
+
+    @Test
+    public void givenIncrementedOnlyCounters_whenIsSeededIsCalled_returnFalseUntilAggregated() {
+        Document incremented = new Document("_id", MangaStatsCounters.ID).append("manga", 1);
+
+        assertThat(MangaStatsCounters.isSeeded(null)).isFalse();
+        assertThat(MangaStatsCounters.isSeeded(incremented)).isFalse();
+        assertThat(MangaStatsCounters.isSeeded(MangaStatsCounters.fromAggregation(new Document()))).isTrue();
+    }
+}